@@ -0,0 +1,84 @@
+package com.manvanth.servenow.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity helpers called on every listing, login and payment
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityBenchmark {
+
+    private Service fixedPriceService;
+    private Service rangePriceService;
+    private User user;
+    private BigDecimal paymentAmount;
+
+    @Setup
+    public void setUp() {
+        fixedPriceService = new Service();
+        fixedPriceService.setPricingType(Service.PricingType.FIXED);
+        fixedPriceService.setBasePrice(new BigDecimal("2499.00"));
+        fixedPriceService.setPriceUnit("per visit");
+
+        rangePriceService = new Service();
+        rangePriceService.setPricingType(Service.PricingType.HOURLY);
+        rangePriceService.setBasePrice(new BigDecimal("499.00"));
+        rangePriceService.setMinPrice(new BigDecimal("399.00"));
+        rangePriceService.setMaxPrice(new BigDecimal("799.00"));
+        rangePriceService.setPriceUnit("per hour");
+
+        user = new User();
+        user.setRoles(Set.of(role("CUSTOMER"), role("PROVIDER")));
+
+        paymentAmount = new BigDecimal("2499.00");
+    }
+
+    @Benchmark
+    public String priceDisplayFixed() {
+        return fixedPriceService.getPriceDisplay();
+    }
+
+    @Benchmark
+    public String priceDisplayRange() {
+        return rangePriceService.getPriceDisplay();
+    }
+
+    @Benchmark
+    public Collection<?> userAuthorities() {
+        return user.getAuthorities();
+    }
+
+    @Benchmark
+    public Payment paymentFees() {
+        Payment payment = new Payment();
+        payment.setAmount(paymentAmount);
+        payment.setPaymentGateway(Payment.PaymentGateway.STRIPE);
+        payment.onPaymentCreate();
+        return payment;
+    }
+
+    private static Role role(String name) {
+        Role role = new Role();
+        role.setName(name);
+        return role;
+    }
+}
@@ -0,0 +1,107 @@
+package com.manvanth.servenow.repository;
+
+import com.manvanth.servenow.ServeNowApplication;
+import com.manvanth.servenow.entity.Category;
+import com.manvanth.servenow.entity.Service;
+import com.manvanth.servenow.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk service inserts through ServiceRepository.saveAll, with JDBC batching off (batch size 1)
+ * and at the configured size. Runs on the test profile's in-memory H2, so it shows the statement
+ * count saved by batching; on MySQL each saved statement is also a network round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    @Param({"500"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ServiceRepository serviceRepository;
+    private TransactionTemplate transactionTemplate;
+    private User provider;
+    private Category category;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ServeNowApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN",
+                        "jfr.continuous.enabled=false",
+                        "management.tracing.sampling.probability=0")
+                .run();
+        serviceRepository = context.getBean(ServiceRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            category = new Category();
+            category.setName("Benchmark");
+            category.setSlug("benchmark");
+            category = context.getBean(CategoryRepository.class).save(category);
+
+            provider = new User();
+            provider.setFirstName("Bench");
+            provider.setLastName("Provider");
+            provider.setEmail("bench.provider@example.com");
+            provider.setPassword("{noop}benchmark");
+            provider = context.getBean(UserRepository.class).save(provider);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Service> saveAll() {
+        List<Service> services = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            long n = sequence++;
+            Service service = new Service();
+            service.setTitle("Benchmark service " + n);
+            service.setDescription("Bulk-imported listing used to measure insert batching");
+            service.setSlug("benchmark-service-" + n);
+            service.setBasePrice(new BigDecimal("499.00"));
+            service.setEstimatedDurationMinutes(60);
+            service.setProvider(provider);
+            service.setCategory(category);
+            services.add(service);
+        }
+        return transactionTemplate.execute(status -> serviceRepository.saveAll(services));
+    }
+}
@@ -0,0 +1,76 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.entity.Role;
+import com.manvanth.servenow.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT work done on login and on every authenticated request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", "ServeNowSecretKeyForJWTTokenGeneration2024!@#$%^&*");
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604_800_000L);
+
+        Role role = new Role();
+        role.setName("CUSTOMER");
+        user = new User();
+        user.setEmail("customer@example.com");
+        user.setRoles(Set.of(role));
+
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    /**
+     * What JwtAuthenticationFilter does per request: extract the subject, validate, check the type
+     */
+    @Benchmark
+    public boolean authenticateRequest() {
+        return jwtService.extractUsername(token) != null
+                && jwtService.isTokenValid(token, user)
+                && jwtService.isAccessToken(token);
+    }
+}
@@ -0,0 +1,170 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.BookingResponse;
+import com.manvanth.servenow.dto.response.CategoryResponse;
+import com.manvanth.servenow.dto.response.ReviewResponse;
+import com.manvanth.servenow.dto.response.ServiceResponse;
+import com.manvanth.servenow.entity.Booking;
+import com.manvanth.servenow.entity.Category;
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.repository.BookingRepository;
+import com.manvanth.servenow.repository.CategoryRepository;
+import com.manvanth.servenow.repository.ReviewRepository;
+import com.manvanth.servenow.repository.ServiceRepository;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in each service, measured through the public read methods on
+ * detached entity graphs. Repositories and other collaborators are stub-only mocks, so
+ * each call adds one or two stub lookups on top of the mapping; that cost is the same in
+ * every run, so compare runs against each other rather than reading absolute numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapToResponseBenchmark {
+
+    @Mock(stubOnly = true)
+    private ServiceRepository serviceRepository;
+    @Mock(stubOnly = true)
+    private BookingRepository bookingRepository;
+    @Mock(stubOnly = true)
+    private ReviewRepository reviewRepository;
+    @Mock(stubOnly = true)
+    private CategoryRepository categoryRepository;
+    @Mock(stubOnly = true)
+    private UserService userService;
+    @Mock(stubOnly = true)
+    private ServiceCounterService serviceCounterService;
+    @Mock(stubOnly = true)
+    private AudienceService audienceService;
+    @Mock(stubOnly = true)
+    private TrendingService trendingService;
+    @Mock(stubOnly = true)
+    private RatingAggregationService ratingAggregationService;
+
+    @InjectMocks
+    private ServiceListingService serviceListingService;
+    @InjectMocks
+    private BookingService bookingService;
+    @InjectMocks
+    private ReviewService reviewService;
+    @InjectMocks
+    private CategoryService categoryService;
+
+    private AutoCloseable mocks;
+
+    @Setup
+    public void setUp() {
+        User customer = user(1L, "Asha", "Rao");
+        User provider = user(2L, "Vikram", "Iyer");
+        Map<Long, User> users = Map.of(1L, customer, 2L, provider);
+
+        mocks = MockitoAnnotations.openMocks(this);
+        Mockito.when(userService.findUserEntityById(Mockito.anyLong()))
+                .thenAnswer(invocation -> users.get(invocation.<Long>getArgument(0)));
+
+        Category category = new Category();
+        category.setId(10L);
+        category.setName("Home Cleaning");
+        category.setSlug("home-cleaning");
+
+        com.manvanth.servenow.entity.Service service = new com.manvanth.servenow.entity.Service();
+        service.setId(100L);
+        service.setTitle("Deep Cleaning - 3 BHK Apartment");
+        service.setDescription("Complete deep cleaning of kitchen, bathrooms and living areas");
+        service.setBasePrice(new BigDecimal("2499.00"));
+        service.setPriceUnit("per visit");
+        service.setEstimatedDurationMinutes(240);
+        service.setCategory(category);
+        service.setProvider(provider);
+        service.setCreatedAt(LocalDateTime.now());
+        category.getServices().add(service);
+
+        Booking booking = new Booking();
+        booking.setId(1000L);
+        booking.setService(service);
+        booking.setCustomer(customer);
+        booking.setProvider(provider);
+        booking.setScheduledDateTime(LocalDateTime.now().plusDays(2));
+        booking.setQuotedPrice(new BigDecimal("2499.00"));
+        booking.setServiceAddress("12 MG Road, Bengaluru");
+        booking.setCreatedAt(LocalDateTime.now());
+
+        Review review = new Review();
+        review.setId(5000L);
+        review.setService(service);
+        review.setCustomer(customer);
+        review.setBooking(booking);
+        review.setOverallRating(new BigDecimal("4.5"));
+        review.setHelpfulCount(12);
+        review.setNotHelpfulCount(3);
+        review.setStatus(Review.ReviewStatus.PUBLISHED);
+        review.setCreatedAt(LocalDateTime.now());
+
+        Mockito.when(serviceRepository.findByProviderIdAndIsActiveTrueOrderByCreatedAtDesc(provider.getId()))
+                .thenReturn(List.of(service));
+        Mockito.when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        Mockito.when(reviewRepository.findById(review.getId())).thenReturn(Optional.of(review));
+        Mockito.when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    @Benchmark
+    public List<ServiceResponse> service() {
+        return serviceListingService.getServicesByProvider(2L);
+    }
+
+    @Benchmark
+    public BookingResponse booking() {
+        return bookingService.getBookingById(1000L, 1L);
+    }
+
+    @Benchmark
+    public ReviewResponse review() {
+        return reviewService.getReviewById(5000L);
+    }
+
+    @Benchmark
+    public CategoryResponse category() {
+        return categoryService.getCategoryById(10L);
+    }
+
+    private static User user(Long id, String firstName, String lastName) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(firstName.toLowerCase() + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,480 @@
+package com.manvanth.servenow.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a synthetic but realistically skewed dataset over plain JDBC batches.
+ * The schema must already exist (start the application once against the database).
+ * Ids are reserved in blocks from Hibernate's id sequences, so the application keeps
+ * allocating past them.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java \
+ *     -Dexec.mainClass=com.manvanth.servenow.loadtest.DatasetGenerator \
+ *     -Dexec.args="--url jdbc:mysql://localhost:3306/ServeNow?rewriteBatchedStatements=true
+ *                  --user root --password secret --users 1000000 --services 200000
+ *                  --bookings 5000000 --reviews 2000000 --tag lt1"
+ * </pre>
+ *
+ * Popularity follows Zipf distributions: a few providers own many services, a few
+ * services get most bookings, a few customers book a lot and a few cities dominate.
+ * Every generated user has the password {@value #PASSWORD}; customers log in as
+ * {@code c<n>.<tag>@loadtest.local}. Rating aggregates are rebuilt by the application's
+ * rating reconcile job, on its next run.
+ */
+public class DatasetGenerator {
+
+    static final String PASSWORD = "LoadTest123!";
+
+    private static final String[] CITIES = {
+            "Bengaluru", "Mumbai", "Delhi", "Hyderabad", "Chennai", "Pune", "Kolkata", "Ahmedabad",
+            "Jaipur", "Kochi", "Lucknow", "Chandigarh", "Indore", "Coimbatore", "Nagpur", "Mysuru"
+    };
+    private static final String[] STATES = {
+            "KA", "MH", "DL", "TG", "TN", "MH", "WB", "GJ", "RJ", "KL", "UP", "CH", "MP", "TN", "MH", "KA"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Vivaan", "Aditya", "Ananya", "Diya", "Ishaan", "Kavya", "Meera", "Rohan", "Saanvi",
+            "Arjun", "Priya", "Rahul", "Sneha", "Vikram", "Neha", "Karthik", "Pooja", "Siddharth", "Asha"
+    };
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Iyer", "Reddy", "Patel", "Nair", "Gupta", "Rao", "Khan", "Singh", "Das",
+            "Menon", "Joshi", "Kulkarni", "Banerjee", "Pillai", "Verma", "Chopra", "Mehta", "Bose", "Shetty"
+    };
+    private static final String[] ADJECTIVES = {
+            "Professional", "Express", "Premium", "Affordable", "Same-day", "Certified", "Eco-friendly", "Expert"
+    };
+    private static final String[] COMMENTS = {
+            "Arrived on time and did a thorough job.",
+            "Good work overall, a little pricey for what was done.",
+            "Excellent service, will definitely book again.",
+            "The technician was polite but had to come back twice.",
+            "Average experience, nothing special.",
+            "Very poor communication and the job was left half done."
+    };
+    private static final String[] DEFAULT_CATEGORIES = {
+            "Home Cleaning", "Plumbing", "Electrical", "Painting", "Carpentry", "Appliance Repair",
+            "Pest Control", "Beauty & Salon", "AC Service", "Moving & Packing", "Gardening", "Tutoring"
+    };
+
+    private final Connection connection;
+    private final LoadTestArgs args;
+    private final SplittableRandom random;
+    private final String tag;
+    private final int batchSize;
+    private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    DatasetGenerator(Connection connection, LoadTestArgs args) {
+        this.connection = connection;
+        this.args = args;
+        this.random = new SplittableRandom(args.getLong("seed", 42));
+        this.tag = args.get("tag", Long.toString(System.currentTimeMillis() / 1000, 36));
+        this.batchSize = args.getInt("batch", 5000);
+    }
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestArgs args = new LoadTestArgs(argv);
+        String url = args.get("url", "jdbc:mysql://localhost:3306/ServeNow?rewriteBatchedStatements=true");
+        try (Connection connection = DriverManager.getConnection(url, args.get("user", "root"), args.get("password", ""))) {
+            connection.setAutoCommit(false);
+            new DatasetGenerator(connection, args).run();
+        }
+    }
+
+    public void run() throws SQLException {
+        int userCount = args.getInt("users", 100_000);
+        int providerCount = Math.max(1, (int) (userCount * args.getDouble("provider-share", 0.1)));
+        int customerCount = userCount - providerCount;
+        int serviceCount = args.getInt("services", 20_000);
+        long bookingCount = args.getLong("bookings", 500_000);
+        long reviewCount = args.getLong("reviews", 200_000);
+        int days = args.getInt("days", 730);
+
+        long started = System.nanoTime();
+        long customerRole = ensureRole("CUSTOMER");
+        long providerRole = ensureRole("PROVIDER");
+        long[] categories = ensureCategories();
+
+        long firstUserId = reserveIds("users_SEQ", userCount);
+        long firstProviderId = firstUserId;
+        long firstCustomerId = firstUserId + providerCount;
+        int[] userCities = insertUsers(firstUserId, providerCount, customerCount, providerRole, customerRole);
+
+        long firstServiceId = reserveIds("services_SEQ", serviceCount);
+        long[] serviceProviders = new long[serviceCount];
+        insertServices(firstServiceId, serviceProviders, firstProviderId, providerCount, userCities, categories);
+
+        long[] bookingsPerService = new long[serviceCount];
+        long reviews = insertBookingsAndReviews(firstServiceId, serviceProviders, bookingsPerService,
+                firstCustomerId, customerCount, bookingCount, reviewCount, days);
+
+        updateServiceBookingCounts(firstServiceId, bookingsPerService);
+
+        log("Done in %ds: %,d users (%,d providers), %,d services, %,d bookings, %,d reviews",
+                (System.nanoTime() - started) / 1_000_000_000L, userCount, providerCount, serviceCount,
+                bookingCount, reviews);
+        log("Customers log in as c<0..%d>.%s@loadtest.local with password %s", customerCount - 1, tag, PASSWORD);
+    }
+
+    private int[] insertUsers(long firstId, int providers, int customers, long providerRole, long customerRole)
+            throws SQLException {
+        String hash = new BCryptPasswordEncoder(12).encode(PASSWORD);
+        ZipfSampler cities = new ZipfSampler(CITIES.length, 1.0);
+        int total = providers + customers;
+        int[] userCities = new int[total];
+
+        String userSql = "INSERT INTO users (id, first_name, last_name, email, password, phone_number, city, state, " +
+                "country, is_email_verified, is_phone_verified, account_non_expired, account_non_locked, " +
+                "credentials_non_expired, enabled, rating_sum, total_reviews, created_at, updated_at, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'India', TRUE, TRUE, TRUE, TRUE, TRUE, TRUE, 0, 0, ?, ?, TRUE)";
+        String roleSql = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+        try (PreparedStatement users = connection.prepareStatement(userSql);
+             PreparedStatement roles = connection.prepareStatement(roleSql)) {
+            for (int i = 0; i < total; i++) {
+                boolean provider = i < providers;
+                int city = cities.sample(random);
+                userCities[i] = city;
+                long id = firstId + i;
+                String email = provider
+                        ? "p" + i + "." + tag + "@loadtest.local"
+                        : "c" + (i - providers) + "." + tag + "@loadtest.local";
+                Timestamp createdAt = pastTimestamp(1095);
+
+                users.setLong(1, id);
+                users.setString(2, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+                users.setString(3, LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+                users.setString(4, email);
+                users.setString(5, hash);
+                users.setString(6, "+91" + (7_000_000_000L + id % 2_999_999_999L));
+                users.setString(7, CITIES[city]);
+                users.setString(8, STATES[city]);
+                users.setTimestamp(9, createdAt);
+                users.setTimestamp(10, createdAt);
+                users.addBatch();
+
+                roles.setLong(1, id);
+                roles.setLong(2, provider ? providerRole : customerRole);
+                roles.addBatch();
+
+                if ((i + 1) % batchSize == 0 || i == total - 1) {
+                    users.executeBatch();
+                    roles.executeBatch();
+                    connection.commit();
+                    progress("users", i + 1, total);
+                }
+            }
+        }
+        return userCities;
+    }
+
+    private void insertServices(long firstId, long[] serviceProviders, long firstProviderId, int providerCount,
+                                int[] userCities, long[] categories) throws SQLException {
+        ZipfSampler providers = new ZipfSampler(providerCount, 1.0);
+        ZipfSampler categoryPopularity = new ZipfSampler(categories.length, 0.8);
+        String sql = "INSERT INTO services (id, title, description, base_price, pricing_type, price_unit, " +
+                "estimated_duration_minutes, service_area, is_available, is_featured, requires_quote, slug, " +
+                "rating_sum, total_reviews, total_bookings, view_count, provider_id, category_id, " +
+                "created_at, updated_at, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, FALSE, ?, 0, 0, 0, 0, ?, ?, ?, ?, TRUE)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < serviceProviders.length; i++) {
+                int providerIndex = providers.sample(random);
+                long providerId = firstProviderId + providerIndex;
+                serviceProviders[i] = providerId;
+                int category = categoryPopularity.sample(random);
+                boolean hourly = random.nextInt(4) == 0;
+                // Log-normal-ish prices between roughly 200 and 20000
+                BigDecimal price = BigDecimal.valueOf(Math.exp(5.3 + random.nextDouble() * 4.6))
+                        .setScale(0, RoundingMode.HALF_UP).setScale(2, RoundingMode.UNNECESSARY);
+                String categoryLabel = DEFAULT_CATEGORIES[(int) (categories[category] % DEFAULT_CATEGORIES.length)];
+                Timestamp createdAt = pastTimestamp(1000);
+
+                statement.setLong(1, firstId + i);
+                statement.setString(2, ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + categoryLabel + " #" + i);
+                statement.setString(3, "Trusted " + categoryLabel.toLowerCase() + " by verified professionals in "
+                        + CITIES[userCities[providerIndex]] + ". Includes inspection and cleanup.");
+                statement.setBigDecimal(4, price);
+                statement.setString(5, hourly ? "HOURLY" : "FIXED");
+                statement.setString(6, hourly ? "per hour" : "per visit");
+                statement.setInt(7, 30 * (1 + random.nextInt(8)));
+                statement.setString(8, CITIES[userCities[providerIndex]]);
+                statement.setBoolean(9, random.nextInt(100) == 0);
+                statement.setString(10, "lt-" + tag + "-" + i);
+                statement.setLong(11, providerId);
+                statement.setLong(12, categories[category]);
+                statement.setTimestamp(13, createdAt);
+                statement.setTimestamp(14, createdAt);
+                statement.addBatch();
+
+                if ((i + 1) % batchSize == 0 || i == serviceProviders.length - 1) {
+                    statement.executeBatch();
+                    connection.commit();
+                    progress("services", i + 1, serviceProviders.length);
+                }
+            }
+        }
+    }
+
+    private long insertBookingsAndReviews(long firstServiceId, long[] serviceProviders, long[] bookingsPerService,
+                                          long firstCustomerId, int customerCount, long bookingCount,
+                                          long reviewTarget, int days) throws SQLException {
+        // Shuffle so popularity does not follow id order
+        int[] servicePermutation = permutation(serviceProviders.length);
+        int[] customerPermutation = permutation(customerCount);
+        ZipfSampler servicePopularity = new ZipfSampler(serviceProviders.length, 1.1);
+        ZipfSampler customerActivity = new ZipfSampler(customerCount, 0.7);
+
+        // About 60% of bookings end up completed; review that share to hit the target
+        double reviewProbability = Math.min(1.0, reviewTarget / (bookingCount * 0.6));
+        long firstBookingId = reserveIds("bookings_SEQ", bookingCount);
+        long nextReviewId = reserveIds("reviews_SEQ", reviewTarget);
+        long reviews = 0;
+
+        String bookingSql = "INSERT INTO bookings (id, service_id, customer_id, provider_id, status, " +
+                "scheduled_date_time, estimated_duration_minutes, quoted_price, final_price, currency, " +
+                "service_address, requested_at, completed_at, cancelled_at, created_at, updated_at, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'INR', ?, ?, ?, ?, ?, ?, TRUE)";
+        String reviewSql = "INSERT INTO reviews (id, customer_id, service_id, booking_id, overall_rating, " +
+                "quality_rating, communication_rating, punctuality_rating, value_rating, comment, is_verified, " +
+                "is_featured, is_public, status, helpful_count, not_helpful_count, created_at, updated_at, is_active) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, FALSE, TRUE, 'PUBLISHED', ?, ?, ?, ?, TRUE)";
+        try (PreparedStatement bookings = connection.prepareStatement(bookingSql);
+             PreparedStatement reviewBatch = connection.prepareStatement(reviewSql)) {
+            for (long i = 0; i < bookingCount; i++) {
+                int service = servicePermutation[servicePopularity.sample(random)];
+                long customerId = firstCustomerId + customerPermutation[customerActivity.sample(random)];
+                bookingsPerService[service]++;
+
+                Timestamp createdAt = pastTimestamp(days);
+                LocalDateTime scheduled = createdAt.toLocalDateTime().plusDays(1 + random.nextInt(14))
+                        .withHour(8 + random.nextInt(11)).withMinute(random.nextBoolean() ? 0 : 30)
+                        .withSecond(0).withNano(0);
+                String status = bookingStatus(scheduled);
+                BigDecimal price = BigDecimal.valueOf(300 + random.nextInt(9700)).setScale(2, RoundingMode.UNNECESSARY);
+                Timestamp completedAt = "COMPLETED".equals(status) ? Timestamp.valueOf(scheduled.plusHours(2)) : null;
+                long bookingId = firstBookingId + i;
+
+                bookings.setLong(1, bookingId);
+                bookings.setLong(2, firstServiceId + service);
+                bookings.setLong(3, customerId);
+                bookings.setLong(4, serviceProviders[service]);
+                bookings.setString(5, status);
+                bookings.setTimestamp(6, Timestamp.valueOf(scheduled));
+                bookings.setInt(7, 30 * (1 + random.nextInt(8)));
+                bookings.setBigDecimal(8, price);
+                bookings.setBigDecimal(9, completedAt != null ? price : null);
+                bookings.setString(10, (1 + random.nextInt(400)) + " Main Road");
+                bookings.setTimestamp(11, createdAt);
+                bookings.setTimestamp(12, completedAt);
+                bookings.setTimestamp(13, "CANCELLED".equals(status) ? createdAt : null);
+                bookings.setTimestamp(14, createdAt);
+                bookings.setTimestamp(15, completedAt != null ? completedAt : createdAt);
+                bookings.addBatch();
+
+                if (completedAt != null && reviews < reviewTarget && random.nextDouble() < reviewProbability) {
+                    addReview(reviewBatch, nextReviewId++, customerId, firstServiceId + service, bookingId, completedAt);
+                    reviews++;
+                }
+
+                if ((i + 1) % batchSize == 0 || i == bookingCount - 1) {
+                    // Bookings first: reviews reference them
+                    bookings.executeBatch();
+                    reviewBatch.executeBatch();
+                    connection.commit();
+                    progress("bookings", i + 1, bookingCount);
+                }
+            }
+        }
+        return reviews;
+    }
+
+    private void addReview(PreparedStatement statement, long id, long customerId, long serviceId, long bookingId,
+                           Timestamp completedAt) throws SQLException {
+        // J-shaped distribution typical of marketplaces: mostly 5s and 4s, a bump at 1
+        int roll = random.nextInt(100);
+        int stars = roll < 45 ? 5 : roll < 75 ? 4 : roll < 87 ? 3 : roll < 93 ? 2 : 1;
+        Timestamp createdAt = Timestamp.valueOf(min(completedAt.toLocalDateTime().plusDays(random.nextInt(5)),
+                now.toLocalDateTime()));
+
+        statement.setLong(1, id);
+        statement.setLong(2, customerId);
+        statement.setLong(3, serviceId);
+        statement.setLong(4, bookingId);
+        statement.setBigDecimal(5, BigDecimal.valueOf(stars).setScale(1, RoundingMode.UNNECESSARY));
+        for (int column = 6; column <= 9; column++) {
+            int detail = Math.max(1, Math.min(5, stars + random.nextInt(3) - 1));
+            statement.setBigDecimal(column, BigDecimal.valueOf(detail).setScale(1, RoundingMode.UNNECESSARY));
+        }
+        statement.setString(10, COMMENTS[Math.min(COMMENTS.length - 1, (5 - stars) + random.nextInt(2))]);
+        // Most reviews get no votes, a few get many
+        statement.setInt(11, random.nextInt(10) == 0 ? random.nextInt(50) : random.nextInt(3));
+        statement.setInt(12, random.nextInt(10) == 0 ? random.nextInt(10) : 0);
+        statement.setTimestamp(13, createdAt);
+        statement.setTimestamp(14, createdAt);
+        statement.addBatch();
+    }
+
+    private void updateServiceBookingCounts(long firstServiceId, long[] bookingsPerService) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE services SET total_bookings = ? WHERE id = ?")) {
+            int pending = 0;
+            for (int i = 0; i < bookingsPerService.length; i++) {
+                if (bookingsPerService[i] == 0) {
+                    continue;
+                }
+                statement.setLong(1, bookingsPerService[i]);
+                statement.setLong(2, firstServiceId + i);
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private long ensureRole(String name) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM roles WHERE name = ?")) {
+            select.setString(1, name);
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+        }
+        long id = reserveIds("roles_SEQ", 1);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO roles (id, name, description, created_at, updated_at, is_active) VALUES (?, ?, ?, ?, ?, TRUE)")) {
+            insert.setLong(1, id);
+            insert.setString(2, name);
+            insert.setString(3, name.charAt(0) + name.substring(1).toLowerCase() + " role");
+            insert.setTimestamp(4, now);
+            insert.setTimestamp(5, now);
+            insert.executeUpdate();
+        }
+        connection.commit();
+        return id;
+    }
+
+    private long[] ensureCategories() throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM categories WHERE is_active = TRUE ORDER BY id")) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        if (ids.isEmpty()) {
+            long id = reserveIds("categories_SEQ", DEFAULT_CATEGORIES.length);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO categories (id, name, slug, sort_order, is_featured, created_at, updated_at, is_active) " +
+                    "VALUES (?, ?, ?, ?, FALSE, ?, ?, TRUE)")) {
+                for (int i = 0; i < DEFAULT_CATEGORIES.length; i++) {
+                    insert.setLong(1, id + i);
+                    insert.setString(2, DEFAULT_CATEGORIES[i]);
+                    insert.setString(3, DEFAULT_CATEGORIES[i].toLowerCase().replaceAll("[^a-z0-9]+", "-"));
+                    insert.setInt(4, i);
+                    insert.setTimestamp(5, now);
+                    insert.setTimestamp(6, now);
+                    insert.addBatch();
+                    ids.add(id + i);
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Reserve count consecutive ids from an entity's id sequence and return the first.
+     * Hibernate's pooled-lo optimizer allocates from next_val onwards, so moving next_val past
+     * the block keeps the application from handing out the same ids.
+     */
+    private long reserveIds(String sequence, long count) throws SQLException {
+        long first;
+        if (connection.getMetaData().getDatabaseProductName().toLowerCase().contains("h2")) {
+            // H2 has real sequences
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet rs = statement.executeQuery("SELECT NEXT VALUE FOR " + sequence)) {
+                    rs.next();
+                    first = rs.getLong(1);
+                }
+                statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (first + count));
+            }
+        } else {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT next_val FROM " + sequence + " FOR UPDATE")) {
+                rs.next();
+                first = rs.getLong(1);
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE " + sequence + " SET next_val = ?")) {
+                update.setLong(1, first + count);
+                update.executeUpdate();
+            }
+        }
+        connection.commit();
+        return first;
+    }
+
+    private String bookingStatus(LocalDateTime scheduled) {
+        int roll = random.nextInt(100);
+        if (scheduled.isBefore(now.toLocalDateTime())) {
+            return roll < 78 ? "COMPLETED" : roll < 92 ? "CANCELLED" : "REJECTED";
+        }
+        return roll < 50 ? "REQUESTED" : roll < 90 ? "ACCEPTED" : "CONFIRMED";
+    }
+
+    /**
+     * A time in the last N days, skewed towards the present as marketplaces grow
+     */
+    private Timestamp pastTimestamp(int days) {
+        double age = Math.pow(random.nextDouble(), 1.5) * days * 86_400L;
+        return Timestamp.valueOf(now.toLocalDateTime().minusSeconds((long) age));
+    }
+
+    private int[] permutation(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static void progress(String what, long done, long total) {
+        long step = Math.max(1, total / 10);
+        if (done % step == 0 || done == total) {
+            log("%s: %,d / %,d", what, done, total);
+        }
+    }
+
+    private static void log(String format, Object... values) {
+        System.out.printf("[generator] " + format + "%n", values);
+    }
+}
@@ -0,0 +1,320 @@
+package com.manvanth.servenow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.manvanth.servenow.loadtest.LatencyStats.millis;
+
+/**
+ * Closed-loop HTTP load driver replaying a browse / search / book / review mix against
+ * a running instance, typically one loaded by {@link DatasetGenerator}.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java \
+ *     -Dexec.args="--base-url http://localhost:8080 --tag lt1 --duration 120 --concurrency 64"
+ * </pre>
+ *
+ * Each worker issues its next request as soon as the previous one returns, choosing
+ * services and search terms with Zipf skew. Requests during the warm-up are not recorded.
+ * Latency percentiles per endpoint are printed at the end and optionally written as JSON.
+ */
+public class LoadDriver {
+
+    private static final String[] COMMON_TERMS = {
+            "cleaning", "plumbing", "electrical", "ac service", "painting", "salon", "pest control", "repair"
+    };
+    private static final String[] RARE_TERMS = {
+            "eco-friendly carpentry", "same-day moving", "certified tutoring", "premium gardening",
+            "appliance repair mysuru", "express packing", "zzz-no-match"
+    };
+
+    private final LoadTestArgs args;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Integer> mix;
+    private final List<Long> serviceIds = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<String> tokens = new ArrayList<>();
+
+    LoadDriver(LoadTestArgs args) {
+        this.args = args;
+        this.baseUrl = args.get("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        this.mix = parseMix(args.get("mix", "browse=60,search=25,book=10,review=5"));
+    }
+
+    public static void main(String[] argv) throws Exception {
+        new LoadDriver(new LoadTestArgs(argv)).run();
+    }
+
+    void run() throws Exception {
+        setUp();
+
+        int concurrency = args.getInt("concurrency", 32);
+        long warmupNanos = Duration.ofSeconds(args.getLong("warmup", 10)).toNanos();
+        long durationNanos = Duration.ofSeconds(args.getLong("duration", 60)).toNanos();
+        long seed = args.getLong("seed", 42);
+        long start = System.nanoTime();
+        long recordFrom = start + warmupNanos;
+        long end = recordFrom + durationNanos;
+
+        log("Running %d workers for %ds after %ds warm-up, mix %s",
+                concurrency, durationNanos / 1_000_000_000L, warmupNanos / 1_000_000_000L, mix);
+        List<Future<Map<String, LatencyStats>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                SplittableRandom random = new SplittableRandom(seed + i);
+                workers.add(executor.submit(() -> work(random, recordFrom, end)));
+            }
+        }
+
+        Map<String, LatencyStats> merged = new TreeMap<>();
+        for (Future<Map<String, LatencyStats>> worker : workers) {
+            worker.get().forEach((name, stats) -> merged.computeIfAbsent(name, n -> new LatencyStats()).merge(stats));
+        }
+        report(merged, durationNanos / 1e9);
+    }
+
+    private void setUp() throws IOException, InterruptedException {
+        String cursor = null;
+        int wanted = args.getInt("sample-services", 2000);
+        while (serviceIds.size() < wanted) {
+            String url = "/services/feed?size=100" + (cursor != null ? "&cursor=" + encode(cursor) : "");
+            JsonNode page = get(url).path("data");
+            page.path("items").forEach(item -> serviceIds.add(item.path("id").asLong()));
+            if (!page.path("hasNext").asBoolean()) {
+                break;
+            }
+            cursor = page.path("nextCursor").asText();
+        }
+        get("/categories").path("data").forEach(category -> categoryIds.add(category.path("id").asLong()));
+        if (serviceIds.isEmpty()) {
+            throw new IllegalStateException("No active services found; run DatasetGenerator first");
+        }
+
+        String tag = args.get("tag", null);
+        int customers = args.getInt("customers", 100_000);
+        int logins = args.getInt("logins", 20);
+        SplittableRandom random = new SplittableRandom(args.getLong("seed", 42));
+        for (int i = 0; tag != null && i < logins; i++) {
+            ObjectNode body = objectMapper.createObjectNode()
+                    .put("email", "c" + random.nextInt(customers) + "." + tag + "@loadtest.local")
+                    .put("password", DatasetGenerator.PASSWORD);
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+            if (response.statusCode() == 200) {
+                tokens.add(objectMapper.readTree(response.body()).path("data").path("accessToken").asText());
+            }
+        }
+        if (tokens.isEmpty()) {
+            log("No customer logins (pass --tag from the generator run); book and review operations are disabled");
+            mix.remove("book");
+            mix.remove("review");
+        }
+        log("Discovered %d services, %d categories, %d customer sessions",
+                serviceIds.size(), categoryIds.size(), tokens.size());
+    }
+
+    private Map<String, LatencyStats> work(SplittableRandom random, long recordFrom, long end) {
+        Map<String, LatencyStats> stats = new LinkedHashMap<>();
+        ZipfSampler services = new ZipfSampler(serviceIds.size(), 1.1);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        while (System.nanoTime() < end) {
+            int roll = random.nextInt(totalWeight);
+            String operation = null;
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                roll -= entry.getValue();
+                if (roll < 0) {
+                    operation = entry.getKey();
+                    break;
+                }
+            }
+            Long serviceId = serviceIds.get(services.sample(random));
+            switch (operation) {
+                case "browse" -> browse(random, serviceId, stats, recordFrom);
+                case "search" -> search(random, stats, recordFrom);
+                case "book" -> book(random, serviceId, stats, recordFrom);
+                case "review" -> review(random, serviceId, stats, recordFrom);
+                default -> throw new IllegalArgumentException("Unknown operation " + operation);
+            }
+        }
+        return stats;
+    }
+
+    private void browse(SplittableRandom random, Long serviceId, Map<String, LatencyStats> stats, long recordFrom) {
+        int roll = random.nextInt(10);
+        if (roll < 6) {
+            timed("GET /services/{id}", HttpRequest.newBuilder(uri("/services/" + serviceId)).GET(), stats, recordFrom);
+        } else if (roll < 9 && !categoryIds.isEmpty()) {
+            Long categoryId = categoryIds.get(random.nextInt(categoryIds.size()));
+            timed("GET /services/feed", HttpRequest.newBuilder(uri("/services/feed?categoryId=" + categoryId)).GET(),
+                    stats, recordFrom);
+        } else {
+            timed("GET /categories", HttpRequest.newBuilder(uri("/categories")).GET(), stats, recordFrom);
+        }
+    }
+
+    private void search(SplittableRandom random, Map<String, LatencyStats> stats, long recordFrom) {
+        int roll = random.nextInt(10);
+        if (roll < 7) {
+            String term = COMMON_TERMS[random.nextInt(COMMON_TERMS.length)];
+            timed("GET /search", HttpRequest.newBuilder(uri("/search?q=" + encode(term))).GET(), stats, recordFrom);
+        } else if (roll < 9) {
+            String term = RARE_TERMS[random.nextInt(RARE_TERMS.length)];
+            timed("GET /search (rare)", HttpRequest.newBuilder(uri("/search?q=" + encode(term))).GET(), stats, recordFrom);
+        } else {
+            timed("GET /search/trending", HttpRequest.newBuilder(uri("/search/trending")).GET(), stats, recordFrom);
+        }
+    }
+
+    private void book(SplittableRandom random, Long serviceId, Map<String, LatencyStats> stats, long recordFrom) {
+        LocalDateTime scheduledAt = LocalDateTime.now().plusDays(1 + random.nextInt(30))
+                .withHour(8 + random.nextInt(11)).withMinute(0).withSecond(0).withNano(0);
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("serviceId", serviceId)
+                .put("scheduledAt", scheduledAt.toString())
+                .put("serviceAddress", (1 + random.nextInt(400)) + " Main Road")
+                .put("notes", "Load test booking");
+        timed("POST /bookings", HttpRequest.newBuilder(uri("/bookings"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())), stats, recordFrom);
+    }
+
+    private void review(SplittableRandom random, Long serviceId, Map<String, LatencyStats> stats, long recordFrom) {
+        String sort = random.nextBoolean() ? "recent" : "helpful";
+        JsonNode feed = timed("GET /reviews/service/{id}/feed",
+                HttpRequest.newBuilder(uri("/reviews/service/" + serviceId + "/feed?sort=" + sort)).GET(),
+                stats, recordFrom);
+        JsonNode items = feed != null ? feed.path("data").path("items") : null;
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        long reviewId = items.get(random.nextInt(items.size())).path("id").asLong();
+        timed("POST /reviews/{id}/vote", HttpRequest.newBuilder(uri("/reviews/" + reviewId + "/vote"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"helpful\":" + random.nextBoolean() + "}")),
+                stats, recordFrom);
+    }
+
+    /**
+     * Send a request, record its latency once past the warm-up and return the parsed body if it succeeded
+     */
+    private JsonNode timed(String name, HttpRequest.Builder request, Map<String, LatencyStats> stats, long recordFrom) {
+        long started = System.nanoTime();
+        boolean ok;
+        JsonNode body = null;
+        try {
+            HttpResponse<String> response = send(request.timeout(Duration.ofSeconds(30)));
+            // 409 is an expected business outcome (slot taken, duplicate vote), not a failure of the server
+            ok = response.statusCode() < 400 || response.statusCode() == 409;
+            if (response.statusCode() < 300) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (started >= recordFrom) {
+            stats.computeIfAbsent(name, n -> new LatencyStats()).record(System.nanoTime() - started, ok);
+        }
+        return body;
+    }
+
+    private JsonNode get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri(path)).GET());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.header("Accept", "application/json").build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void report(Map<String, LatencyStats> results, double seconds) throws IOException {
+        System.out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("durationSeconds", seconds);
+        json.put("concurrency", args.getInt("concurrency", 32));
+        ObjectNode endpoints = json.putObject("endpoints");
+        for (Map.Entry<String, LatencyStats> entry : results.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            long[] sorted = stats.sorted();
+            double rps = stats.count() / seconds;
+            System.out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), stats.count(),
+                    stats.errors(), rps, millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), millis(sorted, 1.0));
+            endpoints.putObject(entry.getKey())
+                    .put("count", stats.count())
+                    .put("errors", stats.errors())
+                    .put("rps", rps)
+                    .put("p50Ms", millis(sorted, 0.50))
+                    .put("p90Ms", millis(sorted, 0.90))
+                    .put("p99Ms", millis(sorted, 0.99))
+                    .put("maxMs", millis(sorted, 1.0));
+        }
+        String out = args.get("out", null);
+        if (out != null) {
+            Files.writeString(Path.of(out), objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json));
+            log("Wrote %s", out);
+        }
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(pair[0].trim(), weight);
+            }
+        }
+        return weights;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void log(String format, Object... values) {
+        System.out.printf("[driver] " + format + "%n", values);
+    }
+}
@@ -0,0 +1,277 @@
+package com.manvanth.servenow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.manvanth.servenow.util.TrafficLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static com.manvanth.servenow.loadtest.LatencyStats.millis;
+
+/**
+ * Replays traffic logs written by the application's traffic capture filter against a test instance.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java \
+ *     -Dexec.mainClass=com.manvanth.servenow.loadtest.TrafficReplayer \
+ *     -Dexec.args="--input ./traffic-capture --base-url http://localhost:8080 --speed 10
+ *                  --login-customer c1.lt1@loadtest.local:LoadTest123!"
+ * </pre>
+ *
+ * Requests are issued open-loop at their captured offsets divided by --speed (0 replays as
+ * fast as --max-in-flight allows), so a slow release builds up a queue just as it would in
+ * production. Only GET and HEAD requests are replayed because bodies are never captured;
+ * requests made under a role are sent with that role's --token-role or --login-role session
+ * and skipped without one. The report compares replay latency with the captured server
+ * time per endpoint and counts responses whose status class changed.
+ */
+public class TrafficReplayer {
+
+    private static final Set<String> REPLAYABLE_METHODS = Set.of("GET", "HEAD");
+
+    private final LoadTestArgs args;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> tokens = new HashMap<>();
+    private final Map<String, EndpointResult> results = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> skipped = new ConcurrentHashMap<>();
+    private final LongAdder lateRequests = new LongAdder();
+
+    TrafficReplayer(LoadTestArgs args) {
+        this.args = args;
+        this.baseUrl = args.get("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        new TrafficReplayer(new LoadTestArgs(argv)).run();
+    }
+
+    void run() throws Exception {
+        for (String role : List.of("CUSTOMER", "PROVIDER", "ADMIN")) {
+            String key = role.toLowerCase(Locale.ROOT);
+            String token = args.get("token-" + key, null);
+            String login = args.get("login-" + key, null);
+            if (token == null && login != null) {
+                token = login(login);
+            }
+            if (token != null) {
+                tokens.put(role, token);
+            }
+        }
+
+        List<Path> files = logFiles(Path.of(args.get("input", "./traffic-capture")));
+        if (files.isEmpty()) {
+            throw new IllegalStateException("No " + TrafficLog.FILE_SUFFIX + " files found");
+        }
+        double speed = args.getDouble("speed", 1.0);
+        Semaphore inFlight = new Semaphore(args.getInt("max-in-flight", 256));
+        log("Replaying %d files at %sx with roles %s", files.size(), speed == 0 ? "max" : speed, tokens.keySet());
+
+        long replayStart = System.nanoTime();
+        long firstCaptured = -1;
+        long sent = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path file : files) {
+                try (InputStream stream = Files.newInputStream(file);
+                     TrafficLog.Reader reader = new TrafficLog.Reader(stream)) {
+                    TrafficLog.Entry entry;
+                    while ((entry = reader.read()) != null) {
+                        String skipReason = skipReason(entry);
+                        if (skipReason != null) {
+                            skipped.computeIfAbsent(skipReason, r -> new LongAdder()).increment();
+                            continue;
+                        }
+                        if (firstCaptured < 0) {
+                            firstCaptured = entry.timestampMillis();
+                        }
+                        if (speed > 0) {
+                            long due = replayStart + (long) ((entry.timestampMillis() - firstCaptured) * 1_000_000 / speed);
+                            long wait = due - System.nanoTime();
+                            if (wait > 0) {
+                                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                            }
+                        }
+                        if (!inFlight.tryAcquire()) {
+                            // The target is not keeping up; from here on this request is behind schedule
+                            lateRequests.increment();
+                            inFlight.acquire();
+                        }
+                        TrafficLog.Entry request = entry;
+                        executor.submit(() -> {
+                            try {
+                                replay(request);
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                        sent++;
+                    }
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - replayStart) / 1e9;
+        log("Sent %,d requests in %.1fs (%,d issued late), skipped %s", sent, seconds, lateRequests.sum(), skipped);
+        report(seconds);
+    }
+
+    private String skipReason(TrafficLog.Entry entry) {
+        if (!REPLAYABLE_METHODS.contains(entry.method())) {
+            return "write " + entry.method();
+        }
+        if (entry.pathVariables().containsValue("")) {
+            return "redacted path";
+        }
+        if (!"ANONYMOUS".equals(entry.role()) && !tokens.containsKey(entry.role())) {
+            return "no " + entry.role() + " session";
+        }
+        return null;
+    }
+
+    private void replay(TrafficLog.Entry entry) {
+        StringBuilder url = new StringBuilder(baseUrl).append(entry.path());
+        char separator = '?';
+        for (Map.Entry<String, String> param : entry.params().entrySet()) {
+            // Parameters whose values were not captured are left out rather than sent empty
+            if (!param.getValue().isEmpty()) {
+                url.append(separator).append(encode(param.getKey())).append('=').append(encode(param.getValue()));
+                separator = '&';
+            }
+        }
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url.toString()))
+                .timeout(Duration.ofSeconds(30))
+                .method(entry.method(), HttpRequest.BodyPublishers.noBody())
+                .header("Accept", "application/json");
+        String token = tokens.get(entry.role());
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+        results.computeIfAbsent(entry.method() + " " + entry.pathTemplate(), name -> new EndpointResult())
+                .record(entry, status, elapsed);
+    }
+
+    private String login(String credentials) throws IOException, InterruptedException {
+        int colon = credentials.indexOf(':');
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("email", credentials.substring(0, colon))
+                .put("password", credentials.substring(colon + 1));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + credentials.substring(0, colon));
+        }
+        return objectMapper.readTree(response.body()).path("data").path("accessToken").asText();
+    }
+
+    private void report(double seconds) throws IOException {
+        System.out.printf("%n%-48s %8s %6s %8s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "changed",
+                "p50 ms", "p99 ms", "captured50", "captured99");
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("durationSeconds", seconds);
+        json.put("lateRequests", lateRequests.sum());
+        ObjectNode endpoints = json.putObject("endpoints");
+        for (Map.Entry<String, EndpointResult> entry : new TreeMap<>(results).entrySet()) {
+            EndpointResult result = entry.getValue();
+            synchronized (result) {
+                long[] replayed = result.replayed.sorted();
+                long[] captured = result.captured.sorted();
+                System.out.printf("%-48s %8d %6d %8d %10.2f %10.2f %10.2f %10.2f%n", entry.getKey(),
+                        result.replayed.count(), result.replayed.errors(), result.statusChanged,
+                        millis(replayed, 0.50), millis(replayed, 0.99), millis(captured, 0.50), millis(captured, 0.99));
+                endpoints.putObject(entry.getKey())
+                        .put("count", result.replayed.count())
+                        .put("errors", result.replayed.errors())
+                        .put("statusChanged", result.statusChanged)
+                        .put("p50Ms", millis(replayed, 0.50))
+                        .put("p99Ms", millis(replayed, 0.99))
+                        .put("capturedP50Ms", millis(captured, 0.50))
+                        .put("capturedP99Ms", millis(captured, 0.99));
+            }
+        }
+        String out = args.get("out", null);
+        if (out != null) {
+            Files.writeString(Path.of(out), objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(json));
+            log("Wrote %s", out);
+        }
+    }
+
+    private static List<Path> logFiles(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            // Capture file names start with their creation time, so name order is replay order
+            return files.filter(file -> file.getFileName().toString().endsWith(TrafficLog.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void log(String format, Object... values) {
+        System.out.printf("[replayer] " + format + "%n", values);
+    }
+
+    /**
+     * Replay and captured timings of one endpoint, shared by the request threads
+     */
+    private static final class EndpointResult {
+
+        private final LatencyStats replayed = new LatencyStats();
+        private final LatencyStats captured = new LatencyStats();
+        private int statusChanged;
+
+        synchronized void record(TrafficLog.Entry entry, int status, long elapsedNanos) {
+            // Errors are transport failures and server errors; client errors can be legitimate replays
+            replayed.record(elapsedNanos, status > 0 && status < 500);
+            captured.record(entry.durationMicros() * 1000, true);
+            if (status / 100 != entry.status() / 100) {
+                statusChanged++;
+            }
+        }
+    }
+}
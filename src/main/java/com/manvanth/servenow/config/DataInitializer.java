@@ -6,17 +6,26 @@ import com.manvanth.servenow.repository.RoleRepository;
 import com.manvanth.servenow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
- * Data initialization component to ensure default admin user exists
+ * Data initialization component to ensure default admin user exists.
+ * The seed version that last completed is stored in the seed_version table, and
+ * nothing is done while it matches startup.seed-version; bump that property when
+ * this class changes. The table, the ADMIN role and other reference data come from
+ * the Flyway migrations, so this is turned off (startup.seed-enabled) where they don't run.
  */
 @Component
+@ConditionalOnProperty(name = "startup.seed-enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataInitializer implements CommandLineRunner {
@@ -24,10 +33,18 @@ public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${startup.seed-version:1}")
+    private String seedVersion;
 
     @Override
     public void run(String... args) throws Exception {
-        log.info("Starting data initialization...");
+        if (seedVersion.equals(appliedSeedVersion())) {
+            log.info("Seed version {} already applied, skipping data initialization", seedVersion);
+            return;
+        }
+        log.info("Starting data initialization for seed version {}...", seedVersion);
         
         // Always ensure admin user exists with correct credentials
         User adminUser = userRepository.findByEmailAndIsActiveTrue("admin@servenow.com").orElse(null);
@@ -63,9 +80,20 @@ public class DataInitializer implements CommandLineRunner {
             log.info("Admin user credentials updated successfully");
         }
         
+        recordSeedVersion();
         log.info("Data initialization completed");
     }
 
+    private String appliedSeedVersion() {
+        List<String> versions = jdbcTemplate.queryForList("SELECT version FROM seed_version", String.class);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    private void recordSeedVersion() {
+        jdbcTemplate.update("DELETE FROM seed_version");
+        jdbcTemplate.update("INSERT INTO seed_version (version, applied_at) VALUES (?, CURRENT_TIMESTAMP)", seedVersion);
+    }
+
     private void createDefaultAdminUser() {
         try {
             // Find or create ADMIN role
@@ -1,5 +1,7 @@
 package com.manvanth.servenow.config;
 
+import com.manvanth.servenow.security.TimingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -13,10 +15,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordConfig {
 
     /**
-     * Password encoder bean
+     * Password encoder bean, timed under servenow.password
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // Strength of 12 for good security
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimingPasswordEncoder(new BCryptPasswordEncoder(12), meterRegistry); // Strength of 12 for good security
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.manvanth.servenow.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration
+ * Enables @Scheduled housekeeping and background flush jobs
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
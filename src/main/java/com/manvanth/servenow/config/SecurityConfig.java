@@ -1,5 +1,8 @@
 package com.manvanth.servenow.config;
 
+import com.manvanth.servenow.monitoring.LogContextFilter;
+import com.manvanth.servenow.monitoring.LogUserContextFilter;
+import com.manvanth.servenow.monitoring.QueryStatsFilter;
 import com.manvanth.servenow.security.JwtAccessDeniedHandler;
 import com.manvanth.servenow.security.JwtAuthenticationEntryPoint;
 import com.manvanth.servenow.security.JwtAuthenticationFilter;
@@ -38,6 +41,7 @@ public class SecurityConfig {
 
     private final UserService userService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LogUserContextFilter logUserContextFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final PasswordEncoder passwordEncoder;
@@ -62,7 +66,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of("Authorization", LogContextFilter.REQUEST_ID_HEADER,
+                QueryStatsFilter.QUERY_COUNT_HEADER, QueryStatsFilter.DB_TIME_HEADER));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -86,6 +91,8 @@ public class SecurityConfig {
                     .requestMatchers("/auth/**").permitAll()
                     .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/api-docs/**").permitAll()
                     .requestMatchers("/h2-console/**").permitAll()
+                    // Actuator listens on the management port, which is only reachable inside the network
+                    .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                     .requestMatchers(HttpMethod.GET, "/users/providers").permitAll()
                     .requestMatchers(HttpMethod.GET, "/users/check-email").permitAll()
                     .requestMatchers(HttpMethod.GET, "/users/check-phone").permitAll()
@@ -102,16 +109,21 @@ public class SecurityConfig {
                     // Admin/Moderator endpoints
                     .requestMatchers("/users/search", "/users/stats").hasAnyRole("ADMIN", "MODERATOR")
                     .requestMatchers("/users/customers").hasAnyRole("ADMIN", "MODERATOR")
+                    .requestMatchers(HttpMethod.GET, "/users/export").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.GET, "/users/{id}").hasAnyRole("ADMIN", "MODERATOR")
                     .requestMatchers(HttpMethod.GET, "/users").hasAnyRole("ADMIN", "MODERATOR")
+                    .requestMatchers("/moderation/**").hasAnyRole("ADMIN", "MODERATOR")
                     // Admin only endpoints
                     .requestMatchers("/users/*/verify-email", "/users/*/verify-phone").hasRole("ADMIN")
                     .requestMatchers("/users/*/toggle-status").hasRole("ADMIN")
                     .requestMatchers(HttpMethod.DELETE, "/users/**").hasRole("ADMIN")
+                    .requestMatchers("/admin/**").hasRole("ADMIN")
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(logUserContextFilter, JwtAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions().sameOrigin());
 
         return http.build();
@@ -0,0 +1,50 @@
+package com.manvanth.servenow.config;
+
+import com.manvanth.servenow.monitoring.QueryStatsFilter;
+import com.manvanth.servenow.monitoring.QueryStatsListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting, enabled with the sql-debug profile.
+ * Wraps the DataSource in a datasource-proxy that feeds QueryStats, and registers
+ * QueryStatsFilter ahead of Spring Security so authentication queries are counted too.
+ */
+@Configuration
+@Profile("sql-debug")
+public class SqlDebugConfig {
+
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryStatsListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(
+            @Value("${sql-debug.query-count-threshold:20}") int queryCountThreshold,
+            @Value("${sql-debug.db-time-threshold-ms:200}") long dbTimeThresholdMillis) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(queryCountThreshold, dbTimeThresholdMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
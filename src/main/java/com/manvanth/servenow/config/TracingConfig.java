@@ -0,0 +1,54 @@
+package com.manvanth.servenow.config;
+
+import com.manvanth.servenow.monitoring.FileSpanExporter;
+import com.manvanth.servenow.monitoring.RecentSpanExporter;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Local span exporters, used alongside (or instead of) OTLP export to a collector.
+ * Spring Boot registers every SpanExporter bean with the tracer's batch processor.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-export.path")
+    public FileSpanExporter fileSpanExporter(@Value("${tracing.file-export.path}") String path) throws IOException {
+        return new FileSpanExporter(Path.of(path));
+    }
+
+    /**
+     * For tests; they also need @AutoConfigureObservability since Spring Boot disables tracing in tests
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.in-memory.enabled", havingValue = "true")
+    public RecentSpanExporter recentSpanExporter(@Value("${tracing.in-memory.max-spans:10000}") int maxSpans) {
+        return new RecentSpanExporter(maxSpans);
+    }
+
+    /**
+     * datasource-micrometer starts an observation per statement whether or not the trace is
+     * recorded; outside a sampled trace the observation is replaced by a no-op instead, the
+     * same rule TracingAspect applies to service and repository spans
+     */
+    @Bean
+    public ObservationPredicate jdbcObservationsInSampledTraces(ObjectProvider<Tracer> tracer) {
+        return (name, context) -> {
+            if (!name.startsWith("jdbc.")) {
+                return true;
+            }
+            Span current = tracer.getIfAvailable(() -> Tracer.NOOP).currentSpan();
+            return current != null && Boolean.TRUE.equals(current.context().sampled());
+        };
+    }
+}
@@ -3,9 +3,13 @@ package com.manvanth.servenow.controller;
 import com.manvanth.servenow.dto.request.BookingRequest;
 import com.manvanth.servenow.dto.response.ApiResponse;
 import com.manvanth.servenow.dto.response.BookingResponse;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
 import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.service.BookingExportService;
 import com.manvanth.servenow.service.BookingService;
+import com.manvanth.servenow.service.IdempotencyService;
 import com.manvanth.servenow.service.UserService;
+import com.manvanth.servenow.util.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,12 +19,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/bookings")
@@ -30,19 +37,25 @@ import org.springframework.web.bind.annotation.*;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
     private final UserService userService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
     @SecurityRequirement(name = "bearerAuth")
-    @Operation(summary = "Create booking", description = "Create a new booking (Customer only)")
+    @Operation(summary = "Create booking",
+               description = "Create a new booking (Customer only). Retries carrying the same Idempotency-Key return the original booking")
     public ResponseEntity<ApiResponse<BookingResponse>> createBooking(
             @Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails) {
-        User customer = userService.findUserEntityByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        Long customerId = customer.getId();
-        BookingResponse booking = bookingService.createBooking(customerId, request);
+        BookingResponse booking = idempotencyService.execute("bookings", userDetails.getUsername(), idempotencyKey, request,
+                () -> {
+                    User customer = userService.findUserEntityByEmail(userDetails.getUsername())
+                            .orElseThrow(() -> new RuntimeException("User not found"));
+                    return bookingService.createBooking(customer.getId(), request);
+                });
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(booking));
     }
 
@@ -78,6 +91,56 @@ public class BookingController {
         return ResponseEntity.ok(ApiResponse.success(bookings));
     }
 
+    @GetMapping("/customer/feed")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Get customer booking feed",
+               description = "Cursor-paginated bookings for logged-in customer, newest first. Pass nextCursor from the previous page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookingResponse>>> getCustomerBookingFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User customer = userService.findUserEntityByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        CursorPageResponse<BookingResponse> bookings = bookingService.getCustomerBookingFeed(customer.getId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(bookings));
+    }
+
+    @GetMapping("/provider/feed")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Get provider booking feed",
+               description = "Cursor-paginated bookings for logged-in provider, newest first. Pass nextCursor from the previous page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<BookingResponse>>> getProviderBookingFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User provider = userService.findUserEntityByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        CursorPageResponse<BookingResponse> bookings = bookingService.getProviderBookingFeed(provider.getId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(bookings));
+    }
+
+    @GetMapping("/provider/export")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Export provider bookings",
+               description = "Stream the full booking history of the logged-in provider as 'csv' or 'ndjson'")
+    public ResponseEntity<StreamingResponseBody> exportProviderBookings(
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User provider = userService.findUserEntityByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        ExportFormat exportFormat = ExportFormat.from(format);
+        Long providerId = provider.getId();
+        StreamingResponseBody body = out -> bookingExportService.exportProviderBookings(providerId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookings." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/{bookingId}")
     @PreAuthorize("hasRole('CUSTOMER') or hasRole('PROVIDER')")
     @SecurityRequirement(name = "bearerAuth")
@@ -0,0 +1,86 @@
+package com.manvanth.servenow.controller;
+
+import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.JfrRecordingResponse;
+import com.manvanth.servenow.service.JfrRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Flight Recorder", description = "On-demand JFR recordings (Admin only)")
+public class JfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @GetMapping
+    @Operation(summary = "List recordings", description = "All JFR recordings in this JVM, including the continuous one")
+    public ResponseEntity<ApiResponse<List<JfrRecordingResponse>>> getRecordings() {
+        return ResponseEntity.ok(ApiResponse.success(jfrRecordingService.getRecordings()));
+    }
+
+    @PostMapping
+    @Operation(summary = "Start recording",
+               description = "Start a recording with 'default' or 'profile' settings that stops after the given minutes")
+    public ResponseEntity<ApiResponse<JfrRecordingResponse>> startRecording(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(defaultValue = "5") int durationMinutes) {
+        JfrRecordingResponse recording = jfrRecordingService.startRecording(settings, durationMinutes);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(recording));
+    }
+
+    @PostMapping("/{recordingId}/stop")
+    @Operation(summary = "Stop recording",
+               description = "Stop a running recording; its data is saved to a file that stays downloadable")
+    public ResponseEntity<ApiResponse<JfrRecordingResponse>> stopRecording(@PathVariable long recordingId) {
+        return ResponseEntity.ok(ApiResponse.success(jfrRecordingService.stopRecording(recordingId)));
+    }
+
+    @GetMapping("/{recordingId}/download")
+    @Operation(summary = "Download recording",
+               description = "Download a .jfr file of the recording so far, or of its saved file once stopped; "
+                       + "running recordings keep running")
+    public ResponseEntity<StreamingResponseBody> downloadRecording(@PathVariable long recordingId) throws IOException {
+        Path file = jfrRecordingService.dumpRecording(recordingId);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("recording-" + recordingId + ".jfr").build().toString())
+                .body(body);
+    }
+
+    @DeleteMapping("/{recordingId}")
+    @Operation(summary = "Close recording", description = "Discard a recording and delete its saved file")
+    public ResponseEntity<ApiResponse<Object>> closeRecording(@PathVariable long recordingId) throws IOException {
+        jfrRecordingService.closeRecording(recordingId);
+        return ResponseEntity.ok(ApiResponse.success("Recording closed"));
+    }
+}
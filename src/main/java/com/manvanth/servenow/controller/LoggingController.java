@@ -0,0 +1,61 @@
+package com.manvanth.servenow.controller;
+
+import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.LogDebugTargetResponse;
+import com.manvanth.servenow.exception.ValidationException;
+import com.manvanth.servenow.service.LogDebugService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/logging/debug")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Logging", description = "Targeted debug logging (Admin only)")
+public class LoggingController {
+
+    private final LogDebugService logDebugService;
+
+    @GetMapping
+    @Operation(summary = "List debug targets", description = "Users and request ids currently logging at debug level")
+    public ResponseEntity<ApiResponse<List<LogDebugTargetResponse>>> getTargets() {
+        return ResponseEntity.ok(ApiResponse.success(logDebugService.getTargets()));
+    }
+
+    @PostMapping
+    @Operation(summary = "Add debug target",
+               description = "Log one user's requests, or requests sent with an X-Request-Id, at debug level for the given minutes")
+    public ResponseEntity<ApiResponse<LogDebugTargetResponse>> addTarget(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String requestId,
+            @RequestParam(defaultValue = "15") int minutes) {
+        LogDebugTargetResponse target = logDebugService.addTarget(type(userId, requestId),
+                userId != null ? userId.toString() : requestId, minutes);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(target));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Remove debug target", description = "Stop debug logging for a user or request id")
+    public ResponseEntity<ApiResponse<Object>> removeTarget(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String requestId) {
+        logDebugService.removeTarget(type(userId, requestId), userId != null ? userId.toString() : requestId);
+        return ResponseEntity.ok(ApiResponse.success("Debug target removed"));
+    }
+
+    private static LogDebugService.TargetType type(Long userId, String requestId) {
+        if ((userId == null) == (requestId == null)) {
+            throw new ValidationException("Specify exactly one of userId or requestId");
+        }
+        return userId != null ? LogDebugService.TargetType.USER : LogDebugService.TargetType.REQUEST;
+    }
+}
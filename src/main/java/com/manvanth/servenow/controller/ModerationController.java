@@ -0,0 +1,51 @@
+package com.manvanth.servenow.controller;
+
+import com.manvanth.servenow.dto.request.ReviewModerationRequest;
+import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.ModerationResultResponse;
+import com.manvanth.servenow.dto.response.ReviewResponse;
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.service.ModerationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/moderation/reviews")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasAnyRole('ADMIN', 'MODERATOR')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Moderation", description = "Review moderation endpoints (Admin/Moderator only)")
+public class ModerationController {
+
+    private final ModerationService moderationService;
+
+    @GetMapping
+    @Operation(summary = "Get moderation queue", description = "Get reviews awaiting moderation, oldest first")
+    public ResponseEntity<ApiResponse<Page<ReviewResponse>>> getQueue(
+            @RequestParam(defaultValue = "PENDING") Review.ReviewStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ReviewResponse> reviews = moderationService.getQueue(status, pageable);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Bulk moderate reviews", description = "Approve, reject or hide a batch of reviews")
+    public ResponseEntity<ApiResponse<ModerationResultResponse>> moderate(
+            @Valid @RequestBody ReviewModerationRequest request) {
+        ModerationResultResponse result = moderationService.moderate(request);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
@@ -1,10 +1,16 @@
 package com.manvanth.servenow.controller;
 
 import com.manvanth.servenow.dto.request.ReviewRequest;
+import com.manvanth.servenow.dto.request.ReviewVoteRequest;
 import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
+import com.manvanth.servenow.dto.response.RatingSummaryResponse;
 import com.manvanth.servenow.dto.response.ReviewResponse;
 import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.service.IdempotencyService;
+import com.manvanth.servenow.service.RatingAggregationService;
 import com.manvanth.servenow.service.ReviewService;
+import com.manvanth.servenow.service.ReviewVoteService;
 import com.manvanth.servenow.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -22,6 +28,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Locale;
+
 @RestController
 @RequestMapping("/reviews")
 @RequiredArgsConstructor
@@ -31,18 +39,25 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final UserService userService;
+    private final IdempotencyService idempotencyService;
+    private final RatingAggregationService ratingAggregationService;
+    private final ReviewVoteService reviewVoteService;
 
     @PostMapping
     @PreAuthorize("hasRole('CUSTOMER')")
     @SecurityRequirement(name = "bearerAuth")
-    @Operation(summary = "Create review", description = "Create a review for a completed booking (Customer only)")
+    @Operation(summary = "Create review",
+               description = "Create a review for a completed booking (Customer only). Retries carrying the same Idempotency-Key return the original review")
     public ResponseEntity<ApiResponse<ReviewResponse>> createReview(
             @Valid @RequestBody ReviewRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @AuthenticationPrincipal UserDetails userDetails) {
-        User customer = userService.findUserEntityByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        Long customerId = customer.getId();
-        ReviewResponse review = reviewService.createReview(customerId, request);
+        ReviewResponse review = idempotencyService.execute("reviews", userDetails.getUsername(), idempotencyKey, request,
+                () -> {
+                    User customer = userService.findUserEntityByEmail(userDetails.getUsername())
+                            .orElseThrow(() -> new RuntimeException("User not found"));
+                    return reviewService.createReview(customer.getId(), request);
+                });
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(review));
     }
 
@@ -68,6 +83,63 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(reviews));
     }
 
+    @GetMapping("/service/{serviceId}/feed")
+    @Operation(summary = "Get service review feed",
+               description = "Cursor-paginated published reviews for a service, sorted by 'recent' or 'helpful'. " +
+                             "Pass nextCursor from the previous page; the total is only counted when includeTotal=true")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> getServiceReviewFeed(
+            @PathVariable Long serviceId,
+            @RequestParam(defaultValue = "recent") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        ReviewService.FeedSort feedSort = ReviewService.FeedSort.valueOf(sort.toUpperCase(Locale.ROOT));
+        CursorPageResponse<ReviewResponse> reviews =
+                reviewService.getServiceReviewFeed(serviceId, feedSort, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    @GetMapping("/service/{serviceId}/helpful")
+    @Operation(summary = "Get most helpful reviews",
+               description = "Get published reviews for a service ranked by helpful vote ratio")
+    public ResponseEntity<ApiResponse<Page<ReviewResponse>>> getMostHelpfulReviews(
+            @PathVariable Long serviceId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ReviewResponse> reviews = reviewService.getMostHelpfulReviews(serviceId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    @GetMapping("/service/{serviceId}/rating")
+    @Operation(summary = "Get service rating",
+               description = "Get the average rating, star distribution and detailed rating averages of a service")
+    public ResponseEntity<ApiResponse<RatingSummaryResponse>> getServiceRating(@PathVariable Long serviceId) {
+        RatingSummaryResponse rating = ratingAggregationService.getServiceRating(serviceId);
+        return ResponseEntity.ok(ApiResponse.success(rating));
+    }
+
+    @GetMapping("/provider/{providerId}/feed")
+    @Operation(summary = "Get provider review feed",
+               description = "Cursor-paginated most recent published reviews across a provider's services")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> getProviderReviewFeed(
+            @PathVariable Long providerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<ReviewResponse> reviews =
+                reviewService.getProviderReviewFeed(providerId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    @GetMapping("/provider/{providerId}/rating")
+    @Operation(summary = "Get provider rating",
+               description = "Get the average rating, star distribution and detailed rating averages of a provider")
+    public ResponseEntity<ApiResponse<RatingSummaryResponse>> getProviderRating(@PathVariable Long providerId) {
+        RatingSummaryResponse rating = ratingAggregationService.getProviderRating(providerId);
+        return ResponseEntity.ok(ApiResponse.success(rating));
+    }
+
     @GetMapping("/customer")
     @PreAuthorize("hasRole('CUSTOMER')")
     @SecurityRequirement(name = "bearerAuth")
@@ -84,6 +156,21 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(reviews));
     }
 
+    @PostMapping("/{reviewId}/vote")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Vote on review",
+               description = "Mark a review as helpful or not helpful; voting again with the other value switches the vote")
+    public ResponseEntity<ApiResponse<Object>> voteReview(
+            @PathVariable Long reviewId,
+            @Valid @RequestBody ReviewVoteRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User user = userService.findUserEntityByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        reviewVoteService.vote(reviewId, user.getId(), request.getHelpful());
+        return ResponseEntity.ok(ApiResponse.success("Vote recorded"));
+    }
+
     @GetMapping("/{reviewId}")
     @Operation(summary = "Get review details", description = "Get review details by ID")
     public ResponseEntity<ApiResponse<ReviewResponse>> getReviewById(@PathVariable Long reviewId) {
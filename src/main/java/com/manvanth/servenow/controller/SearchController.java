@@ -1,8 +1,13 @@
 package com.manvanth.servenow.controller;
 
 import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.AvailableSlotResponse;
 import com.manvanth.servenow.dto.response.ServiceResponse;
+import com.manvanth.servenow.dto.response.TrendingCategoryResponse;
+import com.manvanth.servenow.dto.response.TrendingServiceResponse;
+import com.manvanth.servenow.service.AvailabilityService;
 import com.manvanth.servenow.service.ServiceListingService;
+import com.manvanth.servenow.service.TrendingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +29,8 @@ import java.util.List;
 public class SearchController {
 
     private final ServiceListingService serviceListingService;
+    private final AvailabilityService availabilityService;
+    private final TrendingService trendingService;
 
     @GetMapping
     @Operation(summary = "Search services", description = "Search services with filters")
@@ -72,4 +79,33 @@ public class SearchController {
         Page<ServiceResponse> services = serviceListingService.getAllServices(pageable);
         return ResponseEntity.ok(ApiResponse.success(services));
     }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Find earliest available slots",
+               description = "Get the earliest free slots across all providers in a category, optionally near a location")
+    public ResponseEntity<ApiResponse<List<AvailableSlotResponse>>> getEarliestAvailableSlots(
+            @RequestParam Long categoryId,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<AvailableSlotResponse> slots = availabilityService.findEarliestSlots(categoryId, location, limit);
+        return ResponseEntity.ok(ApiResponse.success(slots));
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "Get trending services",
+               description = "Get services with the most recent views and bookings, overall or within a category")
+    public ResponseEntity<ApiResponse<List<TrendingServiceResponse>>> getTrendingServices(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TrendingServiceResponse> services = trendingService.getTrendingServices(categoryId, limit);
+        return ResponseEntity.ok(ApiResponse.success(services));
+    }
+
+    @GetMapping("/trending/categories")
+    @Operation(summary = "Get trending categories", description = "Get categories with the most recent activity")
+    public ResponseEntity<ApiResponse<List<TrendingCategoryResponse>>> getTrendingCategories(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TrendingCategoryResponse> categories = trendingService.getTrendingCategories(limit);
+        return ResponseEntity.ok(ApiResponse.success(categories));
+    }
 }
\ No newline at end of file
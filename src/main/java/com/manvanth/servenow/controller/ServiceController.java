@@ -2,13 +2,17 @@ package com.manvanth.servenow.controller;
 
 import com.manvanth.servenow.dto.request.ServiceRequest;
 import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.AudienceResponse;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
 import com.manvanth.servenow.dto.response.ServiceResponse;
 import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.service.AudienceService;
 import com.manvanth.servenow.service.ServiceListingService;
 import com.manvanth.servenow.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +37,7 @@ public class ServiceController {
 
     private final ServiceListingService serviceListingService;
     private final UserService userService;
+    private final AudienceService audienceService;
 
     @GetMapping
     @Operation(summary = "Get all services", description = "Get paginated list of all active services")
@@ -44,6 +49,18 @@ public class ServiceController {
         return ResponseEntity.ok(ApiResponse.success(services));
     }
 
+    @GetMapping("/feed")
+    @Operation(summary = "Get service feed",
+               description = "Cursor-paginated active services, newest first, optionally within a category. " +
+                             "Pass nextCursor from the previous page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ServiceResponse>>> getServiceFeed(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<ServiceResponse> services = serviceListingService.getServiceFeed(categoryId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(services));
+    }
+
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "Get services by category", description = "Get paginated services by category")
     public ResponseEntity<ApiResponse<Page<ServiceResponse>>> getServicesByCategory(
@@ -75,18 +92,38 @@ public class ServiceController {
 
     @GetMapping("/{serviceId}")
     @Operation(summary = "Get service by ID", description = "Get service details by ID")
-    public ResponseEntity<ApiResponse<ServiceResponse>> getServiceById(@PathVariable Long serviceId) {
-        ServiceResponse service = serviceListingService.getServiceById(serviceId);
+    public ResponseEntity<ApiResponse<ServiceResponse>> getServiceById(
+            @PathVariable Long serviceId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
+        ServiceResponse service = serviceListingService.getServiceById(serviceId, viewerKey(userDetails, request));
         return ResponseEntity.ok(ApiResponse.success(service));
     }
 
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Get service by slug", description = "Get service details by slug")
-    public ResponseEntity<ApiResponse<ServiceResponse>> getServiceBySlug(@PathVariable String slug) {
-        ServiceResponse service = serviceListingService.getServiceBySlug(slug);
+    public ResponseEntity<ApiResponse<ServiceResponse>> getServiceBySlug(
+            @PathVariable String slug,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
+        ServiceResponse service = serviceListingService.getServiceBySlug(slug, viewerKey(userDetails, request));
         return ResponseEntity.ok(ApiResponse.success(service));
     }
 
+    @GetMapping("/provider/audience")
+    @PreAuthorize("hasRole('PROVIDER')")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(summary = "Get provider audience",
+               description = "Approximate unique viewers and customers of the logged-in provider, all time and per month")
+    public ResponseEntity<ApiResponse<AudienceResponse>> getProviderAudience(
+            @RequestParam(defaultValue = "6") int months,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        User provider = userService.findUserEntityByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        AudienceResponse audience = audienceService.getProviderAudience(provider.getId(), months);
+        return ResponseEntity.ok(ApiResponse.success(audience));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('PROVIDER')")
     @SecurityRequirement(name = "bearerAuth")
@@ -137,4 +174,15 @@ public class ServiceController {
         List<ServiceResponse> services = serviceListingService.getServicesByProvider(providerId);
         return ResponseEntity.ok(ApiResponse.success(services));
     }
+
+    /**
+     * Identity used for unique-viewer counting: the user when logged in, otherwise the client address.
+     * The address is the one resolved by server.forward-headers-strategy, never a raw client header.
+     */
+    private String viewerKey(UserDetails userDetails, HttpServletRequest request) {
+        if (userDetails != null) {
+            return "user:" + userDetails.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
 }
\ No newline at end of file
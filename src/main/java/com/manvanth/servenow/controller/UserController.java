@@ -3,8 +3,11 @@ package com.manvanth.servenow.controller;
 import com.manvanth.servenow.dto.request.ChangePasswordRequest;
 import com.manvanth.servenow.dto.request.UpdateUserRequest;
 import com.manvanth.servenow.dto.response.ApiResponse;
+import com.manvanth.servenow.dto.response.ProviderSummaryResponse;
 import com.manvanth.servenow.dto.response.UserResponse;
+import com.manvanth.servenow.service.UserExportService;
 import com.manvanth.servenow.service.UserService;
+import com.manvanth.servenow.util.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,11 +16,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -34,6 +40,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
 
     /**
      * Get current user profile
@@ -158,28 +165,32 @@ public class UserController {
      */
     @GetMapping("/role/{roleName}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MODERATOR')")
-    @Operation(summary = "Get users by role", description = "Get users with specific role (Admin/Moderator only)")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getUsersByRole(@PathVariable String roleName) {
+    @Operation(summary = "Get users by role", description = "Get paginated users with specific role (Admin/Moderator only)")
+    public ResponseEntity<ApiResponse<Page<UserResponse>>> getUsersByRole(
+            @PathVariable String roleName,
+            @PageableDefault(size = 20) Pageable pageable) {
         log.info("Get users by role request: {}", roleName);
         
-        List<UserResponse> users = userService.getUsersByRole(roleName);
+        Page<UserResponse> users = userService.getUsersByRole(roleName, pageable);
         
-        ApiResponse<List<UserResponse>> response = ApiResponse.success(users);
+        ApiResponse<Page<UserResponse>> response = ApiResponse.success(users);
         
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Get all service providers
+     * Get the public provider directory
      */
     @GetMapping("/providers")
-    @Operation(summary = "Get all providers", description = "Get all service providers")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllProviders() {
-        log.info("Get all providers request");
+    @Operation(summary = "Get providers", description = "Get paginated public provider directory, optionally filtered by city")
+    public ResponseEntity<ApiResponse<Page<ProviderSummaryResponse>>> getProviderDirectory(
+            @RequestParam(required = false) String city,
+            @PageableDefault(size = 20) Pageable pageable) {
+        log.info("Get providers request, city: {}", city);
         
-        List<UserResponse> providers = userService.getAllProviders();
+        Page<ProviderSummaryResponse> providers = userService.getProviderDirectory(city, pageable);
         
-        ApiResponse<List<UserResponse>> response = ApiResponse.success(providers);
+        ApiResponse<Page<ProviderSummaryResponse>> response = ApiResponse.success(providers);
         
         return ResponseEntity.ok(response);
     }
@@ -189,17 +200,39 @@ public class UserController {
      */
     @GetMapping("/customers")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MODERATOR')")
-    @Operation(summary = "Get all customers", description = "Get all customers (Admin/Moderator only)")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllCustomers() {
-        log.info("Get all customers request");
+    @Operation(summary = "Get customers", description = "Get paginated customers (Admin/Moderator only)")
+    public ResponseEntity<ApiResponse<Page<UserResponse>>> getAllCustomers(
+            @PageableDefault(size = 20) Pageable pageable) {
+        log.info("Get customers request");
         
-        List<UserResponse> customers = userService.getAllCustomers();
+        Page<UserResponse> customers = userService.getUsersByRole("CUSTOMER", pageable);
         
-        ApiResponse<List<UserResponse>> response = ApiResponse.success(customers);
+        ApiResponse<Page<UserResponse>> response = ApiResponse.success(customers);
         
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Stream all users as CSV or NDJSON
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export users", description = "Stream all users, optionally only one role, as 'csv' or 'ndjson' (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String role) {
+        log.info("Export users request, format: {}, role: {}", format, role);
+        
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = out -> userExportService.exportUsers(role, exportFormat, out);
+        
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
     /**
      * Get users within radius
      */
@@ -0,0 +1,28 @@
+package com.manvanth.servenow.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReviewModerationRequest {
+
+    @NotEmpty(message = "At least one review ID is required")
+    @Size(max = 500, message = "At most 500 reviews can be moderated at once")
+    private List<Long> reviewIds;
+
+    @NotNull(message = "Moderation action is required")
+    private Action action;
+
+    @Size(max = 500, message = "Moderator notes must not exceed 500 characters")
+    private String notes;
+
+    public enum Action {
+        APPROVE,
+        REJECT,
+        HIDE
+    }
+}
@@ -0,0 +1,11 @@
+package com.manvanth.servenow.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ReviewVoteRequest {
+
+    @NotNull(message = "Helpful flag is required")
+    private Boolean helpful;
+}
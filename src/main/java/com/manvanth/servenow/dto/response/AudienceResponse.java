@@ -0,0 +1,30 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for approximate unique viewer and customer counts (HyperLogLog estimates, about 2% error)
+ */
+@Data
+public class AudienceResponse {
+    private Long subjectId;
+    private Long uniqueViewers;
+    private Long uniqueCustomers;
+    private Integer windowMonths;
+    private Long windowUniqueViewers;
+    private Long windowUniqueCustomers;
+    private List<MonthlyAudience> monthly;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyAudience {
+        private String month;
+        private Long uniqueViewers;
+        private Long uniqueCustomers;
+    }
+}
@@ -0,0 +1,20 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the earliest free slot of a service offered by a provider
+ */
+@Data
+public class AvailableSlotResponse {
+    private Long serviceId;
+    private String serviceTitle;
+    private Long providerId;
+    private String providerName;
+    private String priceDisplay;
+    private Integer durationMinutes;
+    private LocalDateTime slotStart;
+    private LocalDateTime slotEnd;
+}
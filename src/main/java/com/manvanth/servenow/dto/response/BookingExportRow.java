@@ -0,0 +1,47 @@
+package com.manvanth.servenow.dto.response;
+
+import com.manvanth.servenow.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat booking row for history exports, built directly by a JPQL constructor expression
+ * so streamed rows are never managed entities
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingExportRow {
+    private Long id;
+    private Long serviceId;
+    private String serviceTitle;
+    private String customerName;
+    private Booking.BookingStatus status;
+    private LocalDateTime scheduledDateTime;
+    private Integer estimatedDurationMinutes;
+    private BigDecimal quotedPrice;
+    private BigDecimal finalPrice;
+    private String currency;
+    private String serviceAddress;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime cancelledAt;
+
+    public static final String[] CSV_HEADER = {
+            "id", "serviceId", "serviceTitle", "customerName", "status", "scheduledDateTime",
+            "estimatedDurationMinutes", "quotedPrice", "finalPrice", "currency", "serviceAddress",
+            "createdAt", "completedAt", "cancelledAt"
+    };
+
+    public Object[] toCsvValues() {
+        return new Object[]{
+                id, serviceId, serviceTitle, customerName, status, scheduledDateTime,
+                estimatedDurationMinutes, quotedPrice, finalPrice, currency, serviceAddress,
+                createdAt, completedAt, cancelledAt
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor (keyset) paginated feed
+ * Pass nextCursor back to get the following page; totalCount is only filled when requested
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalCount;
+}
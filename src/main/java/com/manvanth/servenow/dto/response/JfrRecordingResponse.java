@@ -0,0 +1,22 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for a Java Flight Recorder recording held by the JVM
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JfrRecordingResponse {
+    private Long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private Long durationSeconds; // Null when the recording runs until stopped
+    private Long sizeBytes;
+}
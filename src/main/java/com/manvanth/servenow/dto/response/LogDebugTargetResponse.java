@@ -0,0 +1,19 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for a user or request id whose requests currently log at debug level
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogDebugTargetResponse {
+    private String type;
+    private String value;
+    private Instant expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of a bulk moderation action
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationResultResponse {
+    private String action;
+    private String status;
+    private int requested;
+    private int updated;
+}
@@ -0,0 +1,41 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the public provider directory
+ * Built directly by a JPQL constructor expression, so listing providers never loads
+ * User entities or their roles, and carries no contact details
+ */
+@Data
+@NoArgsConstructor
+public class ProviderSummaryResponse {
+    private Long id;
+    private String fullName;
+    private String city;
+    private String state;
+    private String profileImageUrl;
+    private BigDecimal averageRating;
+    private Integer totalReviews;
+    private LocalDateTime memberSince;
+
+    public ProviderSummaryResponse(Long id, String firstName, String lastName, String city, String state,
+                                   String profileImageUrl, BigDecimal ratingSum, Integer totalReviews,
+                                   LocalDateTime memberSince) {
+        this.id = id;
+        this.fullName = firstName + " " + lastName;
+        this.city = city;
+        this.state = state;
+        this.profileImageUrl = profileImageUrl;
+        this.totalReviews = totalReviews != null ? totalReviews : 0;
+        this.averageRating = this.totalReviews > 0 && ratingSum != null
+                ? ratingSum.divide(BigDecimal.valueOf(this.totalReviews), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        this.memberSince = memberSince;
+    }
+}
@@ -0,0 +1,22 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * DTO for the aggregated rating of a service or provider
+ */
+@Data
+public class RatingSummaryResponse {
+    private Long id;
+    private String name;
+    private BigDecimal averageRating;
+    private Integer totalReviews;
+    private Map<Integer, Integer> distribution; // star -> review count, 5 down to 1
+    private BigDecimal averageQuality;
+    private BigDecimal averageCommunication;
+    private BigDecimal averagePunctuality;
+    private BigDecimal averageValue;
+}
@@ -15,5 +15,9 @@ public class ReviewResponse {
     private String providerName;
     private Integer rating;
     private String comment;
+    private Integer helpfulCount;
+    private Integer notHelpfulCount;
+    private Double helpfulRatio;
+    private String status;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -20,6 +20,10 @@ public class ServiceResponse {
     private Boolean isAvailable;
     private BigDecimal averageRating;
     private Integer totalReviews;
+    private Integer totalBookings;
+    private Integer viewCount;
+    private Long uniqueViewers;   // approximate, detail view only
+    private Long uniqueCustomers; // approximate, detail view only
     private String categoryName;
     private String providerName;
     private LocalDateTime createdAt;
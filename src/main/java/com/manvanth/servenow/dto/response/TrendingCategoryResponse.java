@@ -0,0 +1,17 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a trending category and its current decayed activity score
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingCategoryResponse {
+    private Long categoryId;
+    private String name;
+    private Double score;
+}
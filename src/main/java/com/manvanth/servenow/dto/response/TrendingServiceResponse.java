@@ -0,0 +1,20 @@
+package com.manvanth.servenow.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a trending service and its current decayed activity score
+ */
+@Data
+public class TrendingServiceResponse {
+    private Long serviceId;
+    private String title;
+    private Long categoryId;
+    private String categoryName;
+    private String providerName;
+    private String priceDisplay;
+    private BigDecimal averageRating;
+    private Double score;
+}
@@ -0,0 +1,51 @@
+package com.manvanth.servenow.entity;
+
+import com.manvanth.servenow.util.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Persisted HyperLogLog sketch of distinct viewers or customers of a service or provider
+ * One row per subject, metric and period ("ALL" for all time, or a yyyy-MM month)
+ */
+@Entity
+@Table(name = "audience_sketches",
+       uniqueConstraints = @UniqueConstraint(name = "uk_audience_sketches_subject",
+               columnNames = {"subject_type", "subject_id", "metric", "period_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = "registers")
+public class AudienceSketch extends BaseEntity {
+
+    public static final String ALL_TIME = "ALL";
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type", nullable = false, length = 20)
+    private SubjectType subjectType;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private Metric metric;
+
+    @Column(name = "period_key", nullable = false, length = 7)
+    private String period;
+
+    @Column(name = "registers", nullable = false, length = HyperLogLog.SIZE_BYTES)
+    private byte[] registers;
+
+    // Enums
+    public enum SubjectType {
+        SERVICE,
+        PROVIDER
+    }
+
+    public enum Metric {
+        VIEWERS,
+        CUSTOMERS
+    }
+}
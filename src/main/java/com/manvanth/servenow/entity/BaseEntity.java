@@ -12,6 +12,11 @@ import java.time.LocalDateTime;
 /**
  * Base entity class providing common fields for all entities
  * Includes auditing capabilities for tracking creation and modification times
+ *
+ * Ids are drawn from a pooled per-entity sequence instead of IDENTITY, so Hibernate knows ids
+ * before flushing and can batch inserts. With no generator name Hibernate names the sequence
+ * after the table ({table}_SEQ, e.g. services_SEQ, a one-row table on MySQL).
+ * The sequence is the only id source: rows inserted with plain SQL must reserve their ids from it.
  */
 @Data
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -20,7 +25,8 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @Column(name = "id")
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * Manages the complete booking process from request to completion
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+    @Index(name = "idx_bookings_customer_created", columnList = "customer_id, created_at, id"),
+    @Index(name = "idx_bookings_provider_created", columnList = "provider_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,138 @@
+package com.manvanth.servenow.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precomputed rating breakdown embedded in services and providers
+ * Holds a 5-bucket star histogram and running sum/count for each detailed rating
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+public class RatingBreakdown {
+
+    @Column(name = "star1_count")
+    private Integer star1Count = 0;
+
+    @Column(name = "star2_count")
+    private Integer star2Count = 0;
+
+    @Column(name = "star3_count")
+    private Integer star3Count = 0;
+
+    @Column(name = "star4_count")
+    private Integer star4Count = 0;
+
+    @Column(name = "star5_count")
+    private Integer star5Count = 0;
+
+    @Column(name = "quality_sum", precision = 12, scale = 1)
+    private BigDecimal qualitySum = BigDecimal.ZERO;
+
+    @Column(name = "quality_count")
+    private Integer qualityCount = 0;
+
+    @Column(name = "communication_sum", precision = 12, scale = 1)
+    private BigDecimal communicationSum = BigDecimal.ZERO;
+
+    @Column(name = "communication_count")
+    private Integer communicationCount = 0;
+
+    @Column(name = "punctuality_sum", precision = 12, scale = 1)
+    private BigDecimal punctualitySum = BigDecimal.ZERO;
+
+    @Column(name = "punctuality_count")
+    private Integer punctualityCount = 0;
+
+    @Column(name = "value_sum", precision = 12, scale = 1)
+    private BigDecimal valueSum = BigDecimal.ZERO;
+
+    @Column(name = "value_count")
+    private Integer valueCount = 0;
+
+    /**
+     * Build the change one review makes to a breakdown: direction is +1 when the
+     * review starts counting (created, approved) and -1 when it stops (hidden, removed)
+     */
+    public static RatingBreakdown delta(Review review, int direction) {
+        RatingBreakdown delta = new RatingBreakdown();
+        switch (starBucket(review.getOverallRating())) {
+            case 1 -> delta.star1Count = direction;
+            case 2 -> delta.star2Count = direction;
+            case 3 -> delta.star3Count = direction;
+            case 4 -> delta.star4Count = direction;
+            default -> delta.star5Count = direction;
+        }
+        if (review.getQualityRating() != null) {
+            delta.qualitySum = review.getQualityRating().multiply(BigDecimal.valueOf(direction));
+            delta.qualityCount = direction;
+        }
+        if (review.getCommunicationRating() != null) {
+            delta.communicationSum = review.getCommunicationRating().multiply(BigDecimal.valueOf(direction));
+            delta.communicationCount = direction;
+        }
+        if (review.getPunctualityRating() != null) {
+            delta.punctualitySum = review.getPunctualityRating().multiply(BigDecimal.valueOf(direction));
+            delta.punctualityCount = direction;
+        }
+        if (review.getValueRating() != null) {
+            delta.valueSum = review.getValueRating().multiply(BigDecimal.valueOf(direction));
+            delta.valueCount = direction;
+        }
+        return delta;
+    }
+
+    /**
+     * Star bucket for an overall rating: rounded half up and clamped to 1-5
+     * (same rounding as ROUND() in the reconcile queries)
+     */
+    public static int starBucket(BigDecimal rating) {
+        int stars = rating.setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(5, stars));
+    }
+
+    public Map<Integer, Integer> getDistribution() {
+        Map<Integer, Integer> distribution = new LinkedHashMap<>();
+        distribution.put(5, orZero(star5Count));
+        distribution.put(4, orZero(star4Count));
+        distribution.put(3, orZero(star3Count));
+        distribution.put(2, orZero(star2Count));
+        distribution.put(1, orZero(star1Count));
+        return distribution;
+    }
+
+    public BigDecimal getAverageQuality() {
+        return average(qualitySum, qualityCount);
+    }
+
+    public BigDecimal getAverageCommunication() {
+        return average(communicationSum, communicationCount);
+    }
+
+    public BigDecimal getAveragePunctuality() {
+        return average(punctualitySum, punctualityCount);
+    }
+
+    public BigDecimal getAverageValue() {
+        return average(valueSum, valueCount);
+    }
+
+    private static BigDecimal average(BigDecimal sum, Integer count) {
+        if (sum == null || count == null || count == 0) {
+            return null;
+        }
+        return sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -11,7 +11,11 @@ import java.math.BigDecimal;
  * Enables customers to rate and review service providers after booking completion
  */
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    @Index(name = "idx_reviews_service_status_created", columnList = "service_id, status, created_at, id"),
+    @Index(name = "idx_reviews_service_status_helpful", columnList = "service_id, status, helpful_count, id"),
+    @Index(name = "idx_reviews_status_created", columnList = "status, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -110,6 +114,7 @@ public class Review extends BaseEntity {
     // Enums
     public enum ReviewStatus {
         DRAFT("Draft"),
+        PENDING("Pending Approval"),
         PUBLISHED("Published"),
         HIDDEN("Hidden"),
         FLAGGED("Flagged"),
@@ -0,0 +1,30 @@
+package com.manvanth.servenow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Helpfulness vote cast by a user on a review
+ * One row per user and review; the source of truth for the review's helpful counters
+ */
+@Entity
+@Table(name = "review_votes",
+       uniqueConstraints = @UniqueConstraint(name = "uk_review_votes_review_user", columnNames = {"review_id", "user_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true, exclude = {"review", "user"})
+@ToString(exclude = {"review", "user"})
+public class ReviewVote extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private Review review;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "helpful", nullable = false)
+    private Boolean helpful;
+}
@@ -13,7 +13,10 @@ import java.util.Set;
  * Contains all service details, pricing, and availability information
  */
 @Entity
-@Table(name = "services")
+@Table(name = "services", indexes = {
+    @Index(name = "idx_services_active_created", columnList = "is_active, created_at, id"),
+    @Index(name = "idx_services_category_active_created", columnList = "category_id, is_active, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -98,13 +101,16 @@ public class Service extends BaseEntity {
     @Column(name = "meta_description", length = 300)
     private String metaDescription;
 
-    // Ratings and statistics
-    @Column(name = "average_rating", precision = 3, scale = 2)
-    private BigDecimal averageRating = BigDecimal.ZERO;
+    // Ratings and statistics (running totals, average is derived)
+    @Column(name = "rating_sum", precision = 12, scale = 1)
+    private BigDecimal ratingSum = BigDecimal.ZERO;
 
     @Column(name = "total_reviews")
     private Integer totalReviews = 0;
 
+    @Embedded
+    private RatingBreakdown ratingBreakdown = new RatingBreakdown();
+
     @Column(name = "total_bookings")
     private Integer totalBookings = 0;
 
@@ -166,9 +172,11 @@ public class Service extends BaseEntity {
         tags.remove(tag);
     }
 
-    public void updateRating(BigDecimal newRating, Integer reviewCount) {
-        this.averageRating = newRating;
-        this.totalReviews = reviewCount;
+    public BigDecimal getAverageRating() {
+        if (ratingSum == null || totalReviews == null || totalReviews == 0) {
+            return BigDecimal.ZERO;
+        }
+        return ratingSum.divide(BigDecimal.valueOf(totalReviews), 2, java.math.RoundingMode.HALF_UP);
     }
 
     public void incrementBookingCount() {
@@ -0,0 +1,39 @@
+package com.manvanth.servenow.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Checkpoint of a time-decayed trending score for a service or category
+ * The score is kept as log2 of the decayed sum relative to a fixed epoch, so it stays
+ * comparable across restarts without rescaling
+ */
+@Entity
+@Table(name = "trending_scores",
+       uniqueConstraints = @UniqueConstraint(name = "uk_trending_scores_subject",
+               columnNames = {"subject_type", "subject_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class TrendingScore extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_type", nullable = false, length = 20)
+    private SubjectType subjectType;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Column(name = "category_id")
+    private Long categoryId; // Category of a service score, null for category scores
+
+    @Column(name = "log_score", nullable = false)
+    private Double logScore;
+
+    // Enums
+    public enum SubjectType {
+        SERVICE,
+        CATEGORY
+    }
+}
@@ -6,10 +6,13 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -104,8 +107,19 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "enabled")
     private Boolean enabled = true;
 
+    // Provider rating totals across all of their services (average is derived)
+    @Column(name = "rating_sum", precision = 12, scale = 1)
+    private BigDecimal ratingSum = BigDecimal.ZERO;
+
+    @Column(name = "total_reviews")
+    private Integer totalReviews = 0;
+
+    @Embedded
+    private RatingBreakdown ratingBreakdown = new RatingBreakdown();
+
     // Relationships
     @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @BatchSize(size = 50) // Load roles for a page of users in one query
     @JoinTable(
         name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id"),
@@ -163,6 +177,13 @@ public class User extends BaseEntity implements UserDetails {
         return firstName + " " + lastName;
     }
 
+    public BigDecimal getAverageRating() {
+        if (ratingSum == null || totalReviews == null || totalReviews == 0) {
+            return BigDecimal.ZERO;
+        }
+        return ratingSum.divide(BigDecimal.valueOf(totalReviews), 2, RoundingMode.HALF_UP);
+    }
+
     public boolean hasRole(String roleName) {
         return roles.stream()
                 .anyMatch(role -> role.getName().equalsIgnoreCase(roleName));
@@ -34,6 +34,9 @@ public interface UserMapper {
     @Mapping(target = "providedServices", ignore = true)
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "totalReviews", ignore = true)
+    @Mapping(target = "ratingBreakdown", ignore = true)
     @Mapping(target = "profileImageUrl", ignore = true)
     @Mapping(target = "authorities", ignore = true)
     @Mapping(target = "isEmailVerified", constant = "false")
@@ -58,6 +61,9 @@ public interface UserMapper {
     @Mapping(target = "providedServices", ignore = true)
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "totalReviews", ignore = true)
+    @Mapping(target = "ratingBreakdown", ignore = true)
     @Mapping(target = "profileImageUrl", ignore = true)
     @Mapping(target = "authorities", ignore = true)
     @Mapping(target = "isEmailVerified", ignore = true)
@@ -94,6 +100,9 @@ public interface UserMapper {
     @Mapping(target = "providedServices", ignore = true)
     @Mapping(target = "bookings", ignore = true)
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
+    @Mapping(target = "totalReviews", ignore = true)
+    @Mapping(target = "ratingBreakdown", ignore = true)
     @Mapping(target = "profileImageUrl", ignore = true)
     @Mapping(target = "authorities", ignore = true)
     @Mapping(target = "isEmailVerified", ignore = true)
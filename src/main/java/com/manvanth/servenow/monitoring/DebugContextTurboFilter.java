@@ -0,0 +1,51 @@
+package com.manvanth.servenow.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Logback turbo filter that lets DEBUG events through, whatever the configured levels,
+ * on threads handling a request LogContextFilter marked for debugging. Declared before
+ * other turbo filters so targeted requests are not sampled away either.
+ */
+public class DebugContextTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "debugLog";
+
+    private final List<String> loggers = new ArrayList<>();
+
+    /**
+     * A logger name prefix to open up; defaults to the application's own loggers
+     */
+    public void addLogger(String prefix) {
+        loggers.add(prefix.trim());
+    }
+
+    @Override
+    public void start() {
+        if (loggers.isEmpty()) {
+            loggers.add("com.manvanth.servenow");
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || !level.isGreaterOrEqual(Level.DEBUG) || !"true".equals(MDC.get(MDC_KEY))) {
+            return FilterReply.NEUTRAL;
+        }
+        for (String prefix : loggers) {
+            if (logger.getName().startsWith(prefix)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
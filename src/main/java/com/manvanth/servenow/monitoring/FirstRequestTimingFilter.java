@@ -0,0 +1,80 @@
+package com.manvanth.servenow.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long after JVM start the first request completed, which includes whatever
+ * lazy initialization that request triggered. Logged once and exported as the
+ * servenow.startup.first.request and servenow.startup.ready gauges.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean reported = new AtomicBoolean();
+    private volatile long readyMillis = -1;
+    private volatile long firstRequestMillis = -1;
+
+    public FirstRequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = sinceJvmStart();
+        TimeGauge.builder("servenow.startup.ready", this, TimeUnit.MILLISECONDS, filter -> filter.readyMillis)
+                .description("Milliseconds from JVM start until the application was ready")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return reported.get();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (reported.compareAndSet(false, true)) {
+                firstRequestMillis = sinceJvmStart();
+                TimeGauge.builder("servenow.startup.first.request", this, TimeUnit.MILLISECONDS,
+                                filter -> filter.firstRequestMillis)
+                        .description("Milliseconds from JVM start until the first request completed")
+                        .register(meterRegistry);
+                log.info("Time to first request: {} ms after JVM start, {} ms after ready ({} {})",
+                        firstRequestMillis, firstRequestMillis - readyMillis, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+}
@@ -0,0 +1,101 @@
+package com.manvanth.servenow.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Custom Java Flight Recorder events for business operations.
+ * Disabled events cost almost nothing (commit() returns after a flag check), and
+ * stack traces are off so enabled ones stay cheap enough for an always-on recording.
+ * Timed events take their duration from begin() to commit().
+ */
+public final class JfrEvents {
+
+    private static final String CATEGORY = "ServeNow";
+
+    private JfrEvents() {
+    }
+
+    @Name("servenow.BookingCreated")
+    @Label("Booking Created")
+    @Category({CATEGORY, "Bookings"})
+    @StackTrace(false)
+    public static class BookingCreated extends Event {
+        @Label("Booking Id")
+        public long bookingId;
+
+        @Label("Service Id")
+        public long serviceId;
+
+        @Label("Customer Id")
+        public long customerId;
+    }
+
+    @Name("servenow.BookingStatusChanged")
+    @Label("Booking Status Changed")
+    @Category({CATEGORY, "Bookings"})
+    @StackTrace(false)
+    public static class BookingStatusChanged extends Event {
+        @Label("Booking Id")
+        public long bookingId;
+
+        @Label("From")
+        public String fromStatus;
+
+        @Label("To")
+        public String toStatus;
+    }
+
+    @Name("servenow.Search")
+    @Label("Service Search")
+    @Category({CATEGORY, "Search"})
+    @Description("A free-text service search; only the term length is recorded, never the term")
+    @StackTrace(false)
+    public static class Search extends Event {
+        @Label("Term Length")
+        public int termLength;
+
+        @Label("Hits")
+        public long hits;
+    }
+
+    @Name("servenow.JwtVerification")
+    @Label("JWT Verification")
+    @Category({CATEGORY, "Security"})
+    @StackTrace(false)
+    public static class JwtVerification extends Event {
+        @Label("Valid")
+        public boolean valid;
+    }
+
+    @Name("servenow.PasswordHash")
+    @Label("Password Hashing")
+    @Category({CATEGORY, "Security"})
+    @StackTrace(false)
+    public static class PasswordHash extends Event {
+        @Label("Operation")
+        public String operation;
+
+        @Label("Matched")
+        public boolean matched;
+    }
+
+    @Name("servenow.RatingRecompute")
+    @Label("Rating Recompute")
+    @Category({CATEGORY, "Ratings"})
+    @StackTrace(false)
+    public static class RatingRecompute extends Event {
+        @Label("Trigger")
+        public String trigger;
+
+        @Label("Services")
+        public int services;
+
+        @Label("Providers")
+        public int providers;
+    }
+}
@@ -0,0 +1,87 @@
+package com.manvanth.servenow.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter capping how many INFO-and-below events each logger may write per second.
+ * WARN and ERROR always pass. Limits are per logger name, with optional overrides for a
+ * logger prefix (the longest matching prefix wins), configured in logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="com.manvanth.servenow.monitoring.LogSamplingTurboFilter"&gt;
+ *     &lt;maxPerSecond&gt;100&lt;/maxPerSecond&gt;
+ *     &lt;limit&gt;com.manvanth.servenow.security=20&lt;/limit&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * Counting uses one atomic window per logger, so the filter never takes a lock.
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private int maxPerSecond = 100;
+    private final Map<String, Integer> limits = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * A "logger.prefix=N" override
+     */
+    public void addLimit(String limit) {
+        int eq = limit.lastIndexOf('=');
+        if (eq <= 0) {
+            addError("Limit must look like logger.prefix=N: " + limit);
+            return;
+        }
+        limits.put(limit.substring(0, eq).trim(), Integer.parseInt(limit.substring(eq + 1).trim()));
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, and events below the logger's level are dropped anyway
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window(limitFor(name)));
+        return window.tryAcquire(System.currentTimeMillis() / 1000) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private int limitFor(String loggerName) {
+        return limits.entrySet().stream()
+                .filter(entry -> loggerName.startsWith(entry.getKey()))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(maxPerSecond);
+    }
+
+    private static final class Window {
+
+        private final int limit;
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        Window(int limit) {
+            this.limit = limit;
+        }
+
+        boolean tryAcquire(long now) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
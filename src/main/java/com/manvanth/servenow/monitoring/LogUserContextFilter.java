@@ -0,0 +1,59 @@
+package com.manvanth.servenow.monitoring;
+
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.service.LogDebugService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Adds the authenticated caller's user id to the logging MDC set up by LogContextFilter,
+ * and marks the request for debug logging when that user was targeted. Placed in the
+ * security filter chain right after JwtAuthenticationFilter.
+ */
+@Component
+@RequiredArgsConstructor
+public class LogUserContextFilter extends OncePerRequestFilter {
+
+    private final LogDebugService logDebugService;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MDC.put("userId", user.getId().toString());
+        // A request already marked by its id keeps the flag after this filter returns
+        boolean marked = MDC.get(DebugContextTurboFilter.MDC_KEY) == null
+                && logDebugService.isTargeted(user.getId(), null);
+        if (marked) {
+            MDC.put(DebugContextTurboFilter.MDC_KEY, "true");
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove("userId");
+            if (marked) {
+                MDC.remove(DebugContextTurboFilter.MDC_KEY);
+            }
+        }
+    }
+}
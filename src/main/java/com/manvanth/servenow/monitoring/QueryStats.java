@@ -0,0 +1,58 @@
+package com.manvanth.servenow.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC statement count and database time of the request on the current thread.
+ * Started and cleared by QueryStatsFilter and fed by QueryStatsListener; statements
+ * run outside a request (scheduled jobs, async streaming) are not tracked.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int queryCount;
+    private long dbTimeMillis;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+
+    private QueryStats() {
+    }
+
+    static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void record(String sql, int executions, long elapsedMillis) {
+        queryCount += executions;
+        dbTimeMillis += elapsedMillis;
+        statementCounts.merge(sql, executions, Integer::sum);
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getDbTimeMillis() {
+        return dbTimeMillis;
+    }
+
+    /**
+     * The statement executed most often, the usual sign of an N+1 query
+     */
+    public Map.Entry<String, Integer> getTopStatement() {
+        return statementCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
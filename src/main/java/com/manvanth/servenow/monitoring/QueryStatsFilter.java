@@ -0,0 +1,131 @@
+package com.manvanth.servenow.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Reports the JDBC statements each request ran, for the sql-debug profile.
+ * The X-Query-Count and X-DB-Time-Ms headers are added just before the response is
+ * committed, so they cover everything up to the first byte of the body; a structured
+ * log line with the most repeated statement is written when either threshold is reached.
+ */
+@Slf4j
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String DB_TIME_HEADER = "X-DB-Time-Ms";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 500;
+
+    private final int queryCountThreshold;
+    private final long dbTimeThresholdMillis;
+
+    public QueryStatsFilter(int queryCountThreshold, long dbTimeThresholdMillis) {
+        this.queryCountThreshold = queryCountThreshold;
+        this.dbTimeThresholdMillis = dbTimeThresholdMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        QueryStats stats = QueryStats.start();
+        long started = System.nanoTime();
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            QueryStats.clear();
+            wrapped.addStatsHeaders();
+            report(request, response, stats, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, QueryStats stats, long requestMillis) {
+        if (stats.getQueryCount() < queryCountThreshold && stats.getDbTimeMillis() < dbTimeThresholdMillis) {
+            return;
+        }
+        Map.Entry<String, Integer> top = stats.getTopStatement();
+        String topSql = top == null ? "" : top.getKey().replaceAll("\\s+", " ");
+        if (topSql.length() > MAX_LOGGED_SQL_LENGTH) {
+            topSql = topSql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+        }
+        log.warn("sql-stats method={} uri={} status={} queries={} dbTimeMs={} requestTimeMs={} topStatementCount={} topStatement=\"{}\"",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), stats.getQueryCount(),
+                stats.getDbTimeMillis(), requestMillis, top == null ? 0 : top.getValue(), topSql);
+    }
+
+    /**
+     * Adds the stats headers the first time the body or status is about to be sent
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final QueryStats stats;
+        private boolean headersAdded;
+
+        StatsHeaderResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void addStatsHeaders() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (headersAdded || response.isCommitted()) {
+                return;
+            }
+            headersAdded = true;
+            response.setHeader(QUERY_COUNT_HEADER, Integer.toString(stats.getQueryCount()));
+            response.setHeader(DB_TIME_HEADER, Long.toString(stats.getDbTimeMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addStatsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addStatsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addStatsHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addStatsHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addStatsHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
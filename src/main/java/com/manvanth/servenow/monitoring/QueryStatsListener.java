@@ -0,0 +1,28 @@
+package com.manvanth.servenow.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy listener adding every executed statement to the current request's QueryStats
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // A JDBC batch is one round trip but runs each of its statements
+        int executions = execInfo.isBatch() ? Math.max(1, execInfo.getBatchSize()) : 1;
+        stats.record(queryInfoList.get(0).getQuery(), executions, execInfo.getElapsedTime());
+    }
+}
@@ -0,0 +1,69 @@
+package com.manvanth.servenow.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Child spans for service and repository calls.
+ * Spans are only opened inside a sampled trace, so unsampled requests pay for a
+ * thread-local lookup and nothing else. HTTP server spans come from Spring MVC's
+ * observation and JDBC statement spans from datasource-micrometer.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("within(com.manvanth.servenow.service..*) && execution(public * *(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return joinPoint.proceed();
+        }
+
+        // Repository calls go through a proxy; the interface names the repository, the proxy class does not
+        Class<?> type = layer.equals("repository") && joinPoint.getThis() != null
+                ? repositoryInterface(joinPoint.getThis().getClass())
+                : joinPoint.getSignature().getDeclaringType();
+        String method = joinPoint.getSignature().getName();
+        Span span = tracer.nextSpan()
+                .name(type.getSimpleName() + "." + method)
+                .tag("servenow.layer", layer)
+                .tag("code.namespace", type.getName())
+                .tag("code.function", method)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static Class<?> repositoryInterface(Class<?> proxyClass) {
+        for (Class<?> candidate : proxyClass.getInterfaces()) {
+            if (candidate.getName().startsWith("com.manvanth.servenow.repository.")) {
+                return candidate;
+            }
+        }
+        return proxyClass;
+    }
+}
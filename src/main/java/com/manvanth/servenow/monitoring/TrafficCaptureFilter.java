@@ -0,0 +1,130 @@
+package com.manvanth.servenow.monitoring;
+
+import com.manvanth.servenow.util.TrafficLog;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Records a sample of requests for later replay (off unless traffic-capture.enabled is set).
+ * Only the shape of a request is kept: method, matched path template, caller role, status
+ * and duration. Path variables are kept when they look like ids or slugs, query parameter
+ * values only for the allow-listed names; headers and bodies are never read. Runs inside
+ * the security filter chain so the caller's role is known, which means requests rejected
+ * by authentication are not captured.
+ */
+@Component
+@ConditionalOnProperty(name = "traffic-capture.enabled", havingValue = "true")
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@Slf4j
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private static final Pattern SAFE_PATH_VALUE = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+    private static final int MAX_PARAM_LENGTH = 100;
+    private static final List<String> ROLES = List.of("ADMIN", "PROVIDER", "CUSTOMER");
+
+    private final TrafficCaptureWriter writer;
+    private final double sampleRate;
+    private final Set<String> keepParams;
+    private final List<String> excludePaths;
+
+    public TrafficCaptureFilter(TrafficCaptureWriter writer,
+                                @Value("${traffic-capture.sample-rate:0.01}") double sampleRate,
+                                @Value("${traffic-capture.keep-params:}") Set<String> keepParams,
+                                @Value("${traffic-capture.exclude-paths:/actuator}") List<String> excludePaths) {
+        this.writer = writer;
+        this.sampleRate = sampleRate;
+        this.keepParams = keepParams;
+        this.excludePaths = excludePaths;
+        log.info("Capturing {}% of requests, keeping values of parameters {}", sampleRate * 100, keepParams);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getServletPath();
+        return excludePaths.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            capture(request, response, startMillis, (System.nanoTime() - startNanos) / 1000);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void capture(HttpServletRequest request, HttpServletResponse response, long startMillis, long micros) {
+        // Null when no handler matched (404s), which are not worth replaying
+        String template = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (template == null) {
+            return;
+        }
+
+        Map<String, String> pathVariables = new LinkedHashMap<>();
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables != null) {
+            variables.forEach((name, value) ->
+                    pathVariables.put(name, SAFE_PATH_VALUE.matcher(value).matches() ? value : ""));
+        }
+
+        Map<String, String> params = new LinkedHashMap<>();
+        request.getParameterMap().forEach((name, values) -> {
+            String value = keepParams.contains(name) && values.length > 0 ? values[0] : "";
+            params.put(name, value.length() > MAX_PARAM_LENGTH ? value.substring(0, MAX_PARAM_LENGTH) : value);
+        });
+
+        writer.submit(new TrafficLog.Entry(startMillis, request.getMethod(), template, pathVariables, params,
+                currentRole(), response.getStatus(), micros));
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return "ANONYMOUS";
+        }
+        Set<String> authorities = new HashSet<>();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            authorities.add(authority.getAuthority());
+        }
+        return ROLES.stream().filter(role -> authorities.contains("ROLE_" + role)).findFirst().orElse("AUTHENTICATED");
+    }
+}
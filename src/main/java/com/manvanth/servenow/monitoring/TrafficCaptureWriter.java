@@ -0,0 +1,134 @@
+package com.manvanth.servenow.monitoring;
+
+import com.manvanth.servenow.util.TrafficLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes captured requests to rolling traffic log files on a background thread.
+ * Request threads only offer to a bounded queue; when the disk cannot keep up,
+ * entries are dropped and counted rather than slowing requests down.
+ */
+@Component
+@ConditionalOnProperty(name = "traffic-capture.enabled", havingValue = "true")
+@Slf4j
+public class TrafficCaptureWriter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final BlockingQueue<TrafficLog.Entry> queue;
+    private final Counter captured;
+    private final Counter dropped;
+    private final Thread thread = new Thread(this::run, "traffic-capture-writer");
+
+    private volatile boolean running = true;
+    private TrafficLog.Writer current;
+    private int fileSequence;
+
+    public TrafficCaptureWriter(@Value("${traffic-capture.directory:./traffic-capture}") String directory,
+                                @Value("${traffic-capture.max-file-size-mb:64}") long maxFileSizeMb,
+                                @Value("${traffic-capture.queue-capacity:10000}") int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        this.directory = Path.of(directory);
+        this.maxFileBytes = maxFileSizeMb * 1024 * 1024;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.captured = Counter.builder("servenow.traffic.captured")
+                .description("Requests written to the traffic capture log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("servenow.traffic.dropped")
+                .description("Sampled requests dropped because the capture queue was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Traffic capture writing to {}", directory.toAbsolutePath());
+    }
+
+    public void submit(TrafficLog.Entry entry) {
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<TrafficLog.Entry> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                TrafficLog.Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, 1000);
+                    write(batch);
+                    batch.clear();
+                }
+                // Flush when idle so a crash loses at most about a second of entries
+                if (current != null && queue.isEmpty()) {
+                    current.flush();
+                }
+            } catch (InterruptedException e) {
+                // stop() interrupts to end the wait; the loop drains what is left first
+            } catch (IOException e) {
+                log.warn("Traffic capture write failed, starting a new file", e);
+                dropped.increment(batch.size());
+                batch.clear();
+                closeCurrent();
+            }
+        }
+        closeCurrent();
+    }
+
+    private void write(List<TrafficLog.Entry> batch) throws IOException {
+        for (TrafficLog.Entry entry : batch) {
+            if (current == null || current.bytesWritten() >= maxFileBytes) {
+                closeCurrent();
+                String name = String.format("traffic-%s-%03d%s",
+                        LocalDateTime.now().format(FILE_TIMESTAMP), ++fileSequence, TrafficLog.FILE_SUFFIX);
+                current = new TrafficLog.Writer(Files.newOutputStream(directory.resolve(name)), entry.timestampMillis());
+            }
+            current.write(entry);
+        }
+        captured.increment(batch.size());
+    }
+
+    private void closeCurrent() {
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException e) {
+            log.warn("Failed to close traffic capture file", e);
+        }
+        current = null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.manvanth.servenow.repository;
+
+import com.manvanth.servenow.entity.AudienceSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AudienceSketchRepository extends JpaRepository<AudienceSketch, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AudienceSketch a WHERE a.subjectType = :subjectType AND a.subjectId = :subjectId " +
+           "AND a.metric = :metric AND a.period = :period")
+    Optional<AudienceSketch> findForUpdate(@Param("subjectType") AudienceSketch.SubjectType subjectType,
+                                           @Param("subjectId") Long subjectId,
+                                           @Param("metric") AudienceSketch.Metric metric,
+                                           @Param("period") String period);
+
+    List<AudienceSketch> findBySubjectTypeAndSubjectIdAndPeriodIn(AudienceSketch.SubjectType subjectType,
+                                                                  Long subjectId, Collection<String> periods);
+}
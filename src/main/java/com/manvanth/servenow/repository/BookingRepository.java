@@ -1,15 +1,22 @@
 package com.manvanth.servenow.repository;
 
+import com.manvanth.servenow.dto.response.BookingExportRow;
 import com.manvanth.servenow.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -26,4 +33,58 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByProviderAndDateRange(@Param("providerId") Long providerId, 
                                            @Param("start") LocalDateTime start, 
                                            @Param("end") LocalDateTime end);
+
+    /**
+     * Lightweight schedule rows (provider id, start, duration) for availability computation
+     */
+    @Query("SELECT b.provider.id, b.scheduledDateTime, b.estimatedDurationMinutes FROM Booking b " +
+           "WHERE b.provider.id IN :providerIds AND b.status IN :statuses " +
+           "AND b.scheduledDateTime >= :start AND b.scheduledDateTime < :end")
+    List<Object[]> findScheduleByProviderIds(@Param("providerIds") Collection<Long> providerIds,
+                                             @Param("statuses") Collection<Booking.BookingStatus> statuses,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+
+    // Keyset (seek) listings on (created_at, id): callers pass PageRequest.of(0, size) and continue from the last row
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.service JOIN FETCH b.customer JOIN FETCH b.provider " +
+           "WHERE b.customer.id = :customerId ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Booking> findCustomerFeed(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.service JOIN FETCH b.customer JOIN FETCH b.provider " +
+           "WHERE b.customer.id = :customerId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Booking> findCustomerFeedAfter(@Param("customerId") Long customerId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.service JOIN FETCH b.customer JOIN FETCH b.provider " +
+           "WHERE b.provider.id = :providerId ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Booking> findProviderFeed(@Param("providerId") Long providerId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.service JOIN FETCH b.customer JOIN FETCH b.provider " +
+           "WHERE b.provider.id = :providerId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Booking> findProviderFeedAfter(@Param("providerId") Long providerId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Forward-only cursor over a provider's full booking history as export rows.
+     * Must be consumed inside a transaction and closed; the fetch size keeps only one
+     * batch of rows in the driver at a time (MySQL needs useCursorFetch=true for this).
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.manvanth.servenow.dto.response.BookingExportRow(" +
+           "b.id, s.id, s.title, CONCAT(c.firstName, ' ', c.lastName), b.status, b.scheduledDateTime, " +
+           "b.estimatedDurationMinutes, b.quotedPrice, b.finalPrice, b.currency, b.serviceAddress, " +
+           "b.createdAt, b.completedAt, b.cancelledAt) " +
+           "FROM Booking b JOIN b.service s JOIN b.customer c " +
+           "WHERE b.provider.id = :providerId ORDER BY b.createdAt DESC, b.id DESC")
+    Stream<BookingExportRow> streamProviderExport(@Param("providerId") Long providerId);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.manvanth.servenow.repository;
 
 import com.manvanth.servenow.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,9 +15,16 @@ import java.util.Optional;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     
+    // "= true" instead of derived IsActiveTrue so MySQL can read the sort_order indexes in order (see ServiceRepository)
+    @Query("SELECT c FROM Category c WHERE c.isActive = true ORDER BY c.sortOrder")
     List<Category> findByIsActiveTrueOrderBySortOrder();
+
+    @Query("SELECT c FROM Category c WHERE c.parentCategory IS NULL AND c.isActive = true ORDER BY c.sortOrder")
     List<Category> findByParentCategoryIsNullAndIsActiveTrueOrderBySortOrder();
-    List<Category> findByParentCategoryIdAndIsActiveTrueOrderBySortOrder(Long parentId);
+
+    @Query("SELECT c FROM Category c WHERE c.parentCategory.id = :parentId AND c.isActive = true ORDER BY c.sortOrder")
+    List<Category> findByParentCategoryIdAndIsActiveTrueOrderBySortOrder(@Param("parentId") Long parentId);
+
     Optional<Category> findBySlugAndIsActiveTrue(String slug);
     boolean existsByNameAndIsActiveTrue(String name);
 }
\ No newline at end of file
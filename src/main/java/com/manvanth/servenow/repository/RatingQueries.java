@@ -0,0 +1,33 @@
+package com.manvanth.servenow.repository;
+
+/**
+ * JPQL shared by the repositories of entities that carry running rating totals and an
+ * embedded RatingBreakdown (services and providers), so both apply a review the same way.
+ * The fragments expect the rated entity under the alias {@code r}.
+ */
+final class RatingQueries {
+
+    /**
+     * SET clause adding one review's contribution (positive or negative); binds :ratingDelta,
+     * :countDelta and the RatingBreakdown :delta
+     */
+    static final String APPLY_RATING_DELTA =
+            "SET r.ratingSum = COALESCE(r.ratingSum, 0) + :ratingDelta, " +
+            "r.totalReviews = COALESCE(r.totalReviews, 0) + :countDelta, " +
+            "r.ratingBreakdown.star1Count = COALESCE(r.ratingBreakdown.star1Count, 0) + :#{#delta.star1Count}, " +
+            "r.ratingBreakdown.star2Count = COALESCE(r.ratingBreakdown.star2Count, 0) + :#{#delta.star2Count}, " +
+            "r.ratingBreakdown.star3Count = COALESCE(r.ratingBreakdown.star3Count, 0) + :#{#delta.star3Count}, " +
+            "r.ratingBreakdown.star4Count = COALESCE(r.ratingBreakdown.star4Count, 0) + :#{#delta.star4Count}, " +
+            "r.ratingBreakdown.star5Count = COALESCE(r.ratingBreakdown.star5Count, 0) + :#{#delta.star5Count}, " +
+            "r.ratingBreakdown.qualitySum = COALESCE(r.ratingBreakdown.qualitySum, 0) + :#{#delta.qualitySum}, " +
+            "r.ratingBreakdown.qualityCount = COALESCE(r.ratingBreakdown.qualityCount, 0) + :#{#delta.qualityCount}, " +
+            "r.ratingBreakdown.communicationSum = COALESCE(r.ratingBreakdown.communicationSum, 0) + :#{#delta.communicationSum}, " +
+            "r.ratingBreakdown.communicationCount = COALESCE(r.ratingBreakdown.communicationCount, 0) + :#{#delta.communicationCount}, " +
+            "r.ratingBreakdown.punctualitySum = COALESCE(r.ratingBreakdown.punctualitySum, 0) + :#{#delta.punctualitySum}, " +
+            "r.ratingBreakdown.punctualityCount = COALESCE(r.ratingBreakdown.punctualityCount, 0) + :#{#delta.punctualityCount}, " +
+            "r.ratingBreakdown.valueSum = COALESCE(r.ratingBreakdown.valueSum, 0) + :#{#delta.valueSum}, " +
+            "r.ratingBreakdown.valueCount = COALESCE(r.ratingBreakdown.valueCount, 0) + :#{#delta.valueCount} ";
+
+    private RatingQueries() {
+    }
+}
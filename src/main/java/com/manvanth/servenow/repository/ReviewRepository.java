@@ -3,31 +3,86 @@ package com.manvanth.servenow.repository;
 import com.manvanth.servenow.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     
-    Page<Review> findByService_IdOrderByCreatedAtDesc(Long serviceId, Pageable pageable);
+    Page<Review> findByService_IdAndStatusOrderByCreatedAtDesc(Long serviceId, Review.ReviewStatus status, Pageable pageable);
     
-    Page<Review> findByService_Provider_IdOrderByCreatedAtDesc(Long providerId, Pageable pageable);
+    Page<Review> findByService_Provider_IdAndStatusOrderByCreatedAtDesc(Long providerId, Review.ReviewStatus status, Pageable pageable);
     
     Page<Review> findByCustomer_IdOrderByCreatedAtDesc(Long customerId, Pageable pageable);
     
     Optional<Review> findByBooking_Id(Long bookingId);
     
-    @Query("SELECT AVG(r.overallRating) FROM Review r WHERE r.service.id = :serviceId")
-    Double findAverageRatingByServiceId(@Param("serviceId") Long serviceId);
-    
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.service.id = :serviceId")
-    Long countByServiceId(@Param("serviceId") Long serviceId);
-    
-    @Query("SELECT AVG(r.overallRating) FROM Review r WHERE r.service.provider.id = :providerId")
-    Double findAverageRatingByProviderId(@Param("providerId") Long providerId);
+    @Query(value = "SELECT r FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED' " +
+                   "ORDER BY CASE WHEN COALESCE(r.helpfulCount, 0) + COALESCE(r.notHelpfulCount, 0) = 0 THEN -1.0 " +
+                   "ELSE COALESCE(r.helpfulCount, 0) * 1.0 / (COALESCE(r.helpfulCount, 0) + COALESCE(r.notHelpfulCount, 0)) END DESC, " +
+                   "r.helpfulCount DESC, r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED'")
+    Page<Review> findMostHelpfulByServiceId(@Param("serviceId") Long serviceId, Pageable pageable);
+
+    // Keyset (seek) feeds: callers pass PageRequest.of(0, size) and continue from the last row's sort key
+
+    @Query("SELECT r FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED' " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findServiceFeedByRecency(@Param("serviceId") Long serviceId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED' " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findServiceFeedByRecencyAfter(@Param("serviceId") Long serviceId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED' " +
+           "ORDER BY r.helpfulCount DESC, r.id DESC")
+    Slice<Review> findServiceFeedByHelpfulness(@Param("serviceId") Long serviceId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.service.id = :serviceId AND r.status = 'PUBLISHED' " +
+           "AND (r.helpfulCount < :helpfulCount OR (r.helpfulCount = :helpfulCount AND r.id < :id)) " +
+           "ORDER BY r.helpfulCount DESC, r.id DESC")
+    Slice<Review> findServiceFeedByHelpfulnessAfter(@Param("serviceId") Long serviceId,
+                                                    @Param("helpfulCount") Integer helpfulCount,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.service.provider.id = :providerId AND r.status = 'PUBLISHED' " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findProviderFeedByRecency(@Param("providerId") Long providerId, Pageable pageable);
+
+    @Query("SELECT r FROM Review r WHERE r.service.provider.id = :providerId AND r.status = 'PUBLISHED' " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findProviderFeedByRecencyAfter(@Param("providerId") Long providerId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id, Pageable pageable);
+
+    long countByService_IdAndStatus(Long serviceId, Review.ReviewStatus status);
+
+    long countByService_Provider_IdAndStatus(Long providerId, Review.ReviewStatus status);
+
+    // Moderation
+
+    @Query("SELECT r FROM Review r WHERE r.status = :status ORDER BY r.createdAt ASC, r.id ASC")
+    Page<Review> findModerationQueue(@Param("status") Review.ReviewStatus status, Pageable pageable);
+
+    @Query("SELECT DISTINCT r.service.id, r.service.provider.id FROM Review r WHERE r.id IN :ids")
+    List<Object[]> findServiceAndProviderIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Review r SET r.status = :status, r.moderatorNotes = COALESCE(:notes, r.moderatorNotes), " +
+           "r.updatedAt = :now WHERE r.id IN :ids AND r.status <> :status")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") Review.ReviewStatus status,
+                     @Param("notes") String notes, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
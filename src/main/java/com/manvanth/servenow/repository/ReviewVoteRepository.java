@@ -0,0 +1,13 @@
+package com.manvanth.servenow.repository;
+
+import com.manvanth.servenow.entity.ReviewVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ReviewVoteRepository extends JpaRepository<ReviewVote, Long> {
+
+    Optional<ReviewVote> findByReview_IdAndUser_Id(Long reviewId, Long userId);
+}
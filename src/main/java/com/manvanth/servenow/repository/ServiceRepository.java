@@ -1,13 +1,19 @@
 package com.manvanth.servenow.repository;
 
+import com.manvanth.servenow.entity.RatingBreakdown;
 import com.manvanth.servenow.entity.Service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +23,18 @@ import java.util.Optional;
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
     
+    // Spelled out because derived IsActiveTrue renders as "WHERE is_active", which MySQL treats as a range
+    // and then filesorts; "= true" lets it read the (..., is_active, created_at, id) indexes in order
+    @Query("SELECT s FROM Service s WHERE s.isActive = true ORDER BY s.createdAt DESC")
     Page<Service> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
-    Page<Service> findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(Long categoryId, Pageable pageable);
-    List<Service> findByProviderIdAndIsActiveTrueOrderByCreatedAtDesc(Long providerId);
+
+    @Query("SELECT s FROM Service s WHERE s.category.id = :categoryId AND s.isActive = true ORDER BY s.createdAt DESC")
+    Page<Service> findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(@Param("categoryId") Long categoryId,
+                                                                      Pageable pageable);
+
+    @Query("SELECT s FROM Service s WHERE s.provider.id = :providerId AND s.isActive = true ORDER BY s.createdAt DESC")
+    List<Service> findByProviderIdAndIsActiveTrueOrderByCreatedAtDesc(@Param("providerId") Long providerId);
+
     Optional<Service> findBySlugAndIsActiveTrue(String slug);
     
     @Query("SELECT s FROM Service s WHERE s.isActive = true AND " +
@@ -27,5 +42,86 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
            "LOWER(s.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     Page<Service> searchServices(@Param("searchTerm") String searchTerm, Pageable pageable);
     
+    @Query("SELECT s FROM Service s WHERE s.isFeatured = true AND s.isActive = true ORDER BY s.createdAt DESC")
     List<Service> findByIsFeaturedTrueAndIsActiveTrueOrderByCreatedAtDesc();
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.provider p JOIN s.category c " +
+           "WHERE s.isActive = true AND s.isAvailable = true AND p.isActive = true " +
+           "AND (c.id = :categoryId OR c.parentCategory.id = :categoryId) " +
+           "AND (:location IS NULL OR LOWER(p.city) = :location " +
+           "OR LOWER(s.serviceArea) LIKE CONCAT('%', :location, '%'))")
+    List<Service> findBookableByCategory(@Param("categoryId") Long categoryId,
+                                         @Param("location") String location);
+
+    /**
+     * Apply one review's contribution (positive or negative) to a service's rating totals in a single UPDATE
+     */
+    @Modifying
+    @Query("UPDATE Service r " + RatingQueries.APPLY_RATING_DELTA + "WHERE r.id = :serviceId")
+    int applyRatingDelta(@Param("serviceId") Long serviceId, @Param("ratingDelta") BigDecimal ratingDelta,
+                         @Param("countDelta") int countDelta, @Param("delta") RatingBreakdown delta);
+
+    /**
+     * Recompute rating totals and breakdowns of the given services from their published reviews
+     */
+    @Modifying
+    @Query(value = "UPDATE services s LEFT JOIN (" +
+           "SELECT r.service_id AS subject_id, SUM(r.overall_rating) AS rating_sum, COUNT(*) AS total, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) <= 1 THEN 1 ELSE 0 END) AS s1, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 2 THEN 1 ELSE 0 END) AS s2, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 3 THEN 1 ELSE 0 END) AS s3, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 4 THEN 1 ELSE 0 END) AS s4, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) >= 5 THEN 1 ELSE 0 END) AS s5, " +
+           "SUM(r.quality_rating) AS q_sum, COUNT(r.quality_rating) AS q_count, " +
+           "SUM(r.communication_rating) AS c_sum, COUNT(r.communication_rating) AS c_count, " +
+           "SUM(r.punctuality_rating) AS p_sum, COUNT(r.punctuality_rating) AS p_count, " +
+           "SUM(r.value_rating) AS v_sum, COUNT(r.value_rating) AS v_count " +
+           "FROM reviews r " +
+           "WHERE r.status = 'PUBLISHED' AND r.service_id IN (:serviceIds) GROUP BY r.service_id" +
+           ") agg ON agg.subject_id = s.id SET " +
+           "s.rating_sum = COALESCE(agg.rating_sum, 0), s.total_reviews = COALESCE(agg.total, 0), " +
+           "s.star1_count = COALESCE(agg.s1, 0), s.star2_count = COALESCE(agg.s2, 0), " +
+           "s.star3_count = COALESCE(agg.s3, 0), s.star4_count = COALESCE(agg.s4, 0), " +
+           "s.star5_count = COALESCE(agg.s5, 0), s.quality_sum = COALESCE(agg.q_sum, 0), " +
+           "s.quality_count = COALESCE(agg.q_count, 0), s.communication_sum = COALESCE(agg.c_sum, 0), " +
+           "s.communication_count = COALESCE(agg.c_count, 0), s.punctuality_sum = COALESCE(agg.p_sum, 0), " +
+           "s.punctuality_count = COALESCE(agg.p_count, 0), s.value_sum = COALESCE(agg.v_sum, 0), " +
+           "s.value_count = COALESCE(agg.v_count, 0) " +
+           "WHERE s.id IN (:serviceIds)", nativeQuery = true)
+    int recomputeRatings(@Param("serviceIds") Collection<Long> serviceIds);
+
+    @Query("SELECT s.id FROM Service s ORDER BY s.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT DISTINCT s.provider.id FROM Service s")
+    List<Long> findAllProviderIds();
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.category JOIN FETCH s.provider " +
+           "WHERE s.id IN :ids AND s.isActive = true")
+    List<Service> findActiveWithCategoryAndProviderByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset (seek) listings on (created_at, id): callers pass PageRequest.of(0, size) and continue from the last row
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.category JOIN FETCH s.provider WHERE s.isActive = true " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Service> findActiveFeed(Pageable pageable);
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.category JOIN FETCH s.provider WHERE s.isActive = true " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Service> findActiveFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.category c JOIN FETCH s.provider " +
+           "WHERE c.id = :categoryId AND s.isActive = true " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Service> findCategoryFeed(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query("SELECT s FROM Service s JOIN FETCH s.category c JOIN FETCH s.provider " +
+           "WHERE c.id = :categoryId AND s.isActive = true " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    Slice<Service> findCategoryFeedAfter(@Param("categoryId") Long categoryId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.manvanth.servenow.repository;
+
+import com.manvanth.servenow.entity.TrendingScore;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+
+    /**
+     * All stored scores, locked so concurrent checkpoints from several instances merge one after another
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TrendingScore t")
+    List<TrendingScore> findAllForUpdate();
+}
@@ -1,13 +1,18 @@
 package com.manvanth.servenow.repository;
 
+import com.manvanth.servenow.dto.response.ProviderSummaryResponse;
+import com.manvanth.servenow.entity.RatingBreakdown;
 import com.manvanth.servenow.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,13 +47,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByPhoneNumber(String phoneNumber);
 
-    /**
-     * Find users by role name
-     * Used for role-based user queries
-     */
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName AND u.isActive = true")
-    List<User> findByRoleName(@Param("roleName") String roleName);
-
     /**
      * Find users by role name with pagination
      */
@@ -56,16 +54,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByRoleName(@Param("roleName") String roleName, Pageable pageable);
 
     /**
-     * Find all service providers
+     * Page of the public provider directory as projections, optionally filtered by city
      */
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = 'PROVIDER' AND u.isActive = true")
-    List<User> findAllProviders();
-
-    /**
-     * Find all customers
-     */
-    @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = 'CUSTOMER' AND u.isActive = true")
-    List<User> findAllCustomers();
+    @Query(value = "SELECT new com.manvanth.servenow.dto.response.ProviderSummaryResponse(" +
+                   "u.id, u.firstName, u.lastName, u.city, u.state, u.profileImageUrl, u.ratingSum, " +
+                   "u.totalReviews, u.createdAt) " +
+                   "FROM User u JOIN u.roles r WHERE r.name = 'PROVIDER' AND u.isActive = true " +
+                   "AND (:city IS NULL OR LOWER(u.city) = LOWER(:city))",
+           countQuery = "SELECT COUNT(u) FROM User u JOIN u.roles r WHERE r.name = 'PROVIDER' AND u.isActive = true " +
+                        "AND (:city IS NULL OR LOWER(u.city) = LOWER(:city))")
+    Page<ProviderSummaryResponse> findProviderDirectory(@Param("city") String city, Pageable pageable);
 
     /**
      * Find users by location proximity
@@ -139,7 +137,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Find providers with average rating above threshold
      */
     @Query("SELECT DISTINCT u FROM User u JOIN u.providedServices s " +
-           "WHERE u.isActive = true AND s.isActive = true " +
-           "AND s.averageRating >= :minRating")
+           "WHERE u.isActive = true AND s.isActive = true AND s.totalReviews > 0 " +
+           "AND s.ratingSum >= :minRating * s.totalReviews")
     List<User> findProvidersWithMinRating(@Param("minRating") Double minRating);
+
+    /**
+     * Apply one review's contribution (positive or negative) to a provider's rating totals in a single UPDATE
+     */
+    @Modifying
+    @Query("UPDATE User r " + RatingQueries.APPLY_RATING_DELTA + "WHERE r.id = :providerId")
+    int applyRatingDelta(@Param("providerId") Long providerId, @Param("ratingDelta") BigDecimal ratingDelta,
+                         @Param("countDelta") int countDelta, @Param("delta") RatingBreakdown delta);
+
+    /**
+     * Recompute rating totals and breakdowns of the given providers from published reviews of their services
+     */
+    @Modifying
+    @Query(value = "UPDATE users u LEFT JOIN (" +
+           "SELECT s.provider_id AS subject_id, SUM(r.overall_rating) AS rating_sum, COUNT(*) AS total, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) <= 1 THEN 1 ELSE 0 END) AS s1, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 2 THEN 1 ELSE 0 END) AS s2, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 3 THEN 1 ELSE 0 END) AS s3, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) = 4 THEN 1 ELSE 0 END) AS s4, " +
+           "SUM(CASE WHEN ROUND(r.overall_rating) >= 5 THEN 1 ELSE 0 END) AS s5, " +
+           "SUM(r.quality_rating) AS q_sum, COUNT(r.quality_rating) AS q_count, " +
+           "SUM(r.communication_rating) AS c_sum, COUNT(r.communication_rating) AS c_count, " +
+           "SUM(r.punctuality_rating) AS p_sum, COUNT(r.punctuality_rating) AS p_count, " +
+           "SUM(r.value_rating) AS v_sum, COUNT(r.value_rating) AS v_count " +
+           "FROM reviews r JOIN services s ON s.id = r.service_id " +
+           "WHERE r.status = 'PUBLISHED' AND s.provider_id IN (:providerIds) GROUP BY s.provider_id" +
+           ") agg ON agg.subject_id = u.id SET " +
+           "u.rating_sum = COALESCE(agg.rating_sum, 0), u.total_reviews = COALESCE(agg.total, 0), " +
+           "u.star1_count = COALESCE(agg.s1, 0), u.star2_count = COALESCE(agg.s2, 0), " +
+           "u.star3_count = COALESCE(agg.s3, 0), u.star4_count = COALESCE(agg.s4, 0), " +
+           "u.star5_count = COALESCE(agg.s5, 0), u.quality_sum = COALESCE(agg.q_sum, 0), " +
+           "u.quality_count = COALESCE(agg.q_count, 0), u.communication_sum = COALESCE(agg.c_sum, 0), " +
+           "u.communication_count = COALESCE(agg.c_count, 0), u.punctuality_sum = COALESCE(agg.p_sum, 0), " +
+           "u.punctuality_count = COALESCE(agg.p_count, 0), u.value_sum = COALESCE(agg.v_sum, 0), " +
+           "u.value_count = COALESCE(agg.v_count, 0) " +
+           "WHERE u.id IN (:providerIds)", nativeQuery = true)
+    int recomputeProviderRatings(@Param("providerIds") Collection<Long> providerIds);
 }
\ No newline at end of file
@@ -118,7 +118,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                path.startsWith("/swagger-ui") ||
                path.startsWith("/v3/api-docs") ||
                path.startsWith("/api-docs") ||
-               path.startsWith("/actuator") ||
                path.startsWith("/h2-console"); // For development/testing
     }
 }
\ No newline at end of file
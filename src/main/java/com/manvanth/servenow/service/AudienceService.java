@@ -0,0 +1,191 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.AudienceResponse;
+import com.manvanth.servenow.entity.AudienceSketch;
+import com.manvanth.servenow.repository.AudienceSketchRepository;
+import com.manvanth.servenow.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for approximate unique viewer and customer counts.
+ * Each service and provider keeps a HyperLogLog sketch (1.5 KB) per metric for all
+ * time and per month. New members are offered to in-memory sketches and periodically
+ * max-merged into the stored ones, which is idempotent, so a retried flush cannot
+ * double count. Monthly sketches merge into counts for any window of months.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AudienceService {
+
+    private final AudienceSketchRepository audienceSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Count a viewer of a service page; viewerKey identifies a user or an anonymous client
+     */
+    public void recordViewer(Long serviceId, Long providerId, String viewerKey) {
+        record(AudienceSketch.Metric.VIEWERS, serviceId, providerId, viewerKey);
+    }
+
+    /**
+     * Count a customer who booked a service
+     */
+    public void recordCustomer(Long serviceId, Long providerId, Long customerId) {
+        record(AudienceSketch.Metric.CUSTOMERS, serviceId, providerId, "u:" + customerId);
+    }
+
+    private void record(AudienceSketch.Metric metric, Long serviceId, Long providerId, String member) {
+        long hash = HyperLogLog.hash(member);
+        String month = YearMonth.now().toString();
+        for (String period : List.of(AudienceSketch.ALL_TIME, month)) {
+            offer(new SketchKey(AudienceSketch.SubjectType.SERVICE, serviceId, metric, period), hash);
+            offer(new SketchKey(AudienceSketch.SubjectType.PROVIDER, providerId, metric, period), hash);
+        }
+    }
+
+    private void offer(SketchKey key, long hash) {
+        // compute() is atomic with the flush's remove(), so no offer can land in a sketch being flushed
+        pending.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offerHash(hash);
+            return target;
+        });
+    }
+
+    public AudienceResponse getServiceAudience(Long serviceId) {
+        return buildAudience(AudienceSketch.SubjectType.SERVICE, serviceId, 0);
+    }
+
+    /**
+     * All-time counts plus the last N months, individually and merged into one window
+     */
+    public AudienceResponse getProviderAudience(Long providerId, int months) {
+        return buildAudience(AudienceSketch.SubjectType.PROVIDER, providerId, Math.max(0, Math.min(months, 24)));
+    }
+
+    private AudienceResponse buildAudience(AudienceSketch.SubjectType type, Long subjectId, int months) {
+        List<String> periods = new ArrayList<>();
+        periods.add(AudienceSketch.ALL_TIME);
+        YearMonth current = YearMonth.now();
+        for (int i = months - 1; i >= 0; i--) {
+            periods.add(current.minusMonths(i).toString());
+        }
+
+        Map<SketchKey, HyperLogLog> sketches = new HashMap<>();
+        List<AudienceSketch> rows = audienceSketchRepository.findBySubjectTypeAndSubjectIdAndPeriodIn(type, subjectId, periods);
+        for (AudienceSketch stored : rows) {
+            sketches.put(new SketchKey(type, subjectId, stored.getMetric(), stored.getPeriod()),
+                    HyperLogLog.fromBytes(stored.getRegisters()));
+        }
+
+        AudienceResponse response = new AudienceResponse();
+        response.setSubjectId(subjectId);
+        response.setUniqueViewers(
+                estimate(sketches, type, subjectId, AudienceSketch.Metric.VIEWERS, AudienceSketch.ALL_TIME, null));
+        response.setUniqueCustomers(
+                estimate(sketches, type, subjectId, AudienceSketch.Metric.CUSTOMERS, AudienceSketch.ALL_TIME, null));
+
+        if (months > 0) {
+            HyperLogLog windowViewers = new HyperLogLog();
+            HyperLogLog windowCustomers = new HyperLogLog();
+            List<AudienceResponse.MonthlyAudience> monthly = new ArrayList<>();
+            for (String month : periods.subList(1, periods.size())) {
+                monthly.add(new AudienceResponse.MonthlyAudience(month,
+                        estimate(sketches, type, subjectId, AudienceSketch.Metric.VIEWERS, month, windowViewers),
+                        estimate(sketches, type, subjectId, AudienceSketch.Metric.CUSTOMERS, month, windowCustomers)));
+            }
+            response.setWindowMonths(months);
+            response.setWindowUniqueViewers(windowViewers.estimate());
+            response.setWindowUniqueCustomers(windowCustomers.estimate());
+            response.setMonthly(monthly);
+        }
+        return response;
+    }
+
+    /**
+     * Estimate one stored sketch combined with unflushed offers, optionally merging it into a window
+     */
+    private long estimate(Map<SketchKey, HyperLogLog> stored, AudienceSketch.SubjectType type, Long subjectId,
+                          AudienceSketch.Metric metric, String period, HyperLogLog window) {
+        SketchKey key = new SketchKey(type, subjectId, metric, period);
+        HyperLogLog sketch = stored.getOrDefault(key, new HyperLogLog());
+        pending.computeIfPresent(key, (k, unflushed) -> {
+            sketch.merge(unflushed);
+            return unflushed;
+        });
+        if (window != null) {
+            window.merge(sketch);
+        }
+        return sketch.estimate();
+    }
+
+    /**
+     * Max-merge in-memory sketches into the stored ones
+     */
+    @Scheduled(fixedDelayString = "${audience.flush-interval-ms:30000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void flush() {
+        int flushed = 0;
+        for (SketchKey key : new ArrayList<>(pending.keySet())) {
+            HyperLogLog delta = pending.remove(key);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> mergeInto(key, delta));
+                flushed++;
+            } catch (DataAccessException e) {
+                // Merging is idempotent, so putting the sketch back for the next flush is always safe
+                pending.merge(key, delta, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+                log.warn("Failed to flush audience sketch {}, will retry", key, e);
+            }
+        }
+        if (flushed > 0) {
+            log.debug("Flushed {} audience sketches", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void mergeInto(SketchKey key, HyperLogLog delta) {
+        AudienceSketch stored = audienceSketchRepository
+                .findForUpdate(key.subjectType(), key.subjectId(), key.metric(), key.period())
+                .orElse(null);
+        if (stored == null) {
+            audienceSketchRepository.save(new AudienceSketch(key.subjectType(), key.subjectId(), key.metric(),
+                    key.period(), delta.toBytes()));
+            return;
+        }
+        HyperLogLog merged = HyperLogLog.fromBytes(stored.getRegisters());
+        merged.merge(delta);
+        stored.setRegisters(merged.toBytes());
+    }
+
+    private record SketchKey(AudienceSketch.SubjectType subjectType, Long subjectId,
+                             AudienceSketch.Metric metric, String period) {}
+}
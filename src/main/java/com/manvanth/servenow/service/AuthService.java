@@ -36,7 +36,7 @@ public class AuthService {
      * Authenticate user and generate JWT tokens
      */
     public AuthResponse login(LoginRequest loginRequest) {
-        log.info("Attempting login for email: {}", loginRequest.getEmail());
+        log.debug("Attempting login for email: {}", loginRequest.getEmail());
 
         try {
             // Authenticate user
@@ -78,28 +78,21 @@ public class AuthService {
      * Register new user and generate JWT tokens
      */
     public AuthResponse register(RegisterRequest registerRequest) {
-        log.info("=== AUTHSERVICE REGISTER STARTED ===");
-        log.info("Registering new user with email: {}", registerRequest.getEmail());
+        log.debug("Registering new user with email: {}", registerRequest.getEmail());
         
         try {
-            log.info("Calling UserService.registerUser...");
             // Register user
             UserResponse userResponse = userService.registerUser(registerRequest);
-            log.info("UserService.registerUser completed successfully");
 
-            log.info("Getting user entity for token generation...");
             // Get user entity for token generation
             User user = userService.findUserEntityById(userResponse.getId());
-            log.info("User entity retrieved successfully");
 
-            log.info("Generating JWT tokens...");
             // Generate tokens
             String accessToken = jwtService.generateAccessToken(user);
             String refreshToken = jwtService.generateRefreshToken(user);
             
             // Get token expiration
             Long expiresIn = jwtService.getAccessTokenExpiration();
-            log.info("JWT tokens generated successfully");
 
             log.info("User registered and authenticated successfully: {}", user.getEmail());
 
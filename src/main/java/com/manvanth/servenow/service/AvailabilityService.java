@@ -0,0 +1,250 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.AvailableSlotResponse;
+import com.manvanth.servenow.entity.Booking;
+import com.manvanth.servenow.repository.BookingRepository;
+import com.manvanth.servenow.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Service for finding the earliest free slots across providers.
+ * Each provider's calendar is reduced to a slot bitmap (one bit per slot over the
+ * rolling horizon, set = free) built from working hours and existing bookings,
+ * and providers are evaluated in parallel on the common fork-join pool.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AvailabilityService {
+
+    private static final List<Booking.BookingStatus> BLOCKING_STATUSES = List.of(
+            Booking.BookingStatus.REQUESTED,
+            Booking.BookingStatus.ACCEPTED,
+            Booking.BookingStatus.CONFIRMED,
+            Booking.BookingStatus.IN_PROGRESS);
+
+    private static final int DEFAULT_DURATION_MINUTES = 60;
+    private static final int PROVIDERS_PER_TASK = 8;
+
+    private final ServiceRepository serviceRepository;
+    private final BookingRepository bookingRepository;
+
+    @Value("${availability.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${availability.horizon-days:14}")
+    private int horizonDays;
+
+    @Value("${availability.working-hours.start:09:00}")
+    private String workdayStart;
+
+    @Value("${availability.working-hours.end:18:00}")
+    private String workdayEnd;
+
+    /**
+     * Find the earliest free slot of every bookable service in a category (and its
+     * sub-categories), optionally restricted to a location, ordered by slot start.
+     */
+    public List<AvailableSlotResponse> findEarliestSlots(Long categoryId, String location, int limit) {
+        String normalizedLocation = location == null || location.isBlank() ? null : location.trim().toLowerCase();
+        List<com.manvanth.servenow.entity.Service> services =
+                serviceRepository.findBookableByCategory(categoryId, normalizedLocation);
+        if (services.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizonStart = now.toLocalDate().atStartOfDay();
+        LocalDateTime horizonEnd = horizonStart.plusDays(horizonDays);
+
+        // Copy everything the workers need out of the persistence context up front
+        Map<Long, ProviderCalendar> calendars = new LinkedHashMap<>();
+        for (com.manvanth.servenow.entity.Service service : services) {
+            Long providerId = service.getProvider().getId();
+            calendars.computeIfAbsent(providerId, id -> new ProviderCalendar(id, service.getProvider().getFullName()))
+                    .services.add(new ServiceCandidate(service.getId(), service.getTitle(), service.getPriceDisplay(),
+                            durationOrDefault(service.getEstimatedDurationMinutes())));
+        }
+
+        // Bookings that started the day before can still spill into the horizon
+        List<Object[]> schedule = bookingRepository.findScheduleByProviderIds(
+                calendars.keySet(), BLOCKING_STATUSES, horizonStart.minusDays(1), horizonEnd);
+        for (Object[] row : schedule) {
+            ProviderCalendar calendar = calendars.get((Long) row[0]);
+            if (calendar != null) {
+                calendar.bookings.add(new BookedInterval((LocalDateTime) row[1], durationOrDefault((Integer) row[2])));
+            }
+        }
+
+        SlotGrid grid = new SlotGrid(horizonStart, now, slotMinutes, horizonDays,
+                LocalTime.parse(workdayStart), LocalTime.parse(workdayEnd));
+        List<ProviderCalendar> work = new ArrayList<>(calendars.values());
+        List<AvailableSlotResponse> slots = ForkJoinPool.commonPool()
+                .invoke(new EarliestSlotTask(grid, work, 0, work.size()));
+
+        log.debug("Evaluated {} providers for category {}: {} services with free slots",
+                work.size(), categoryId, slots.size());
+
+        return slots.stream()
+                .sorted(Comparator.comparing(AvailableSlotResponse::getSlotStart)
+                        .thenComparing(AvailableSlotResponse::getServiceId))
+                .limit(Math.max(limit, 1))
+                .toList();
+    }
+
+    private static int durationOrDefault(Integer minutes) {
+        return minutes != null && minutes > 0 ? minutes : DEFAULT_DURATION_MINUTES;
+    }
+
+    private record ServiceCandidate(Long serviceId, String title, String priceDisplay, int durationMinutes) {}
+
+    private record BookedInterval(LocalDateTime start, int durationMinutes) {}
+
+    private static final class ProviderCalendar {
+        private final Long providerId;
+        private final String providerName;
+        private final List<ServiceCandidate> services = new ArrayList<>();
+        private final List<BookedInterval> bookings = new ArrayList<>();
+
+        private ProviderCalendar(Long providerId, String providerName) {
+            this.providerId = providerId;
+            this.providerName = providerName;
+        }
+    }
+
+    /**
+     * Immutable description of the slot horizon shared by all workers
+     */
+    private static final class SlotGrid {
+        private final LocalDateTime origin;
+        private final int slotMinutes;
+        private final int slotsPerDay;
+        private final int totalSlots;
+        private final int workdayFirstSlot;
+        private final int workdayLastSlot;
+        private final int firstBookableSlot;
+
+        private SlotGrid(LocalDateTime origin, LocalDateTime now, int slotMinutes, int days,
+                         LocalTime workdayStart, LocalTime workdayEnd) {
+            this.origin = origin;
+            this.slotMinutes = slotMinutes;
+            this.slotsPerDay = (24 * 60) / slotMinutes;
+            this.totalSlots = slotsPerDay * days;
+            this.workdayFirstSlot = workdayStart.toSecondOfDay() / 60 / slotMinutes;
+            this.workdayLastSlot = workdayEnd.toSecondOfDay() / 60 / slotMinutes;
+            long minutesSinceOrigin = Duration.between(origin, now).toMinutes();
+            this.firstBookableSlot = (int) ((minutesSinceOrigin + slotMinutes - 1) / slotMinutes);
+        }
+
+        private BitSet workingHours() {
+            BitSet free = new BitSet(totalSlots);
+            for (int day = 0; day < totalSlots / slotsPerDay; day++) {
+                int dayOffset = day * slotsPerDay;
+                free.set(dayOffset + workdayFirstSlot, dayOffset + workdayLastSlot);
+            }
+            free.clear(0, Math.min(firstBookableSlot, totalSlots));
+            return free;
+        }
+
+        private void block(BitSet free, BookedInterval booking) {
+            long startMinutes = Duration.between(origin, booking.start()).toMinutes();
+            long endMinutes = startMinutes + booking.durationMinutes();
+            int from = (int) Math.max(0, Math.floorDiv(startMinutes, slotMinutes));
+            int to = (int) Math.min(totalSlots, Math.floorDiv(endMinutes + slotMinutes - 1, slotMinutes));
+            if (from < to) {
+                free.clear(from, to);
+            }
+        }
+
+        private int earliestRun(BitSet free, int length) {
+            int start = free.nextSetBit(0);
+            while (start >= 0) {
+                int end = free.nextClearBit(start);
+                if (end - start >= length) {
+                    return start;
+                }
+                start = free.nextSetBit(end);
+            }
+            return -1;
+        }
+
+        private LocalDateTime slotTime(int slot) {
+            return origin.plusMinutes((long) slot * slotMinutes);
+        }
+
+        private int slotsFor(int durationMinutes) {
+            return (durationMinutes + slotMinutes - 1) / slotMinutes;
+        }
+    }
+
+    private static final class EarliestSlotTask extends RecursiveTask<List<AvailableSlotResponse>> {
+        private final SlotGrid grid;
+        private final List<ProviderCalendar> calendars;
+        private final int from;
+        private final int to;
+
+        private EarliestSlotTask(SlotGrid grid, List<ProviderCalendar> calendars, int from, int to) {
+            this.grid = grid;
+            this.calendars = calendars;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<AvailableSlotResponse> compute() {
+            if (to - from <= PROVIDERS_PER_TASK) {
+                List<AvailableSlotResponse> slots = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    evaluate(calendars.get(i), slots);
+                }
+                return slots;
+            }
+            int mid = (from + to) >>> 1;
+            EarliestSlotTask left = new EarliestSlotTask(grid, calendars, from, mid);
+            left.fork();
+            List<AvailableSlotResponse> slots = new EarliestSlotTask(grid, calendars, mid, to).compute();
+            slots.addAll(left.join());
+            return slots;
+        }
+
+        private void evaluate(ProviderCalendar calendar, List<AvailableSlotResponse> out) {
+            BitSet free = grid.workingHours();
+            for (BookedInterval booking : calendar.bookings) {
+                grid.block(free, booking);
+            }
+            for (ServiceCandidate candidate : calendar.services) {
+                int slot = grid.earliestRun(free, grid.slotsFor(candidate.durationMinutes()));
+                if (slot < 0) {
+                    continue;
+                }
+                AvailableSlotResponse response = new AvailableSlotResponse();
+                response.setServiceId(candidate.serviceId());
+                response.setServiceTitle(candidate.title());
+                response.setProviderId(calendar.providerId);
+                response.setProviderName(calendar.providerName);
+                response.setPriceDisplay(candidate.priceDisplay());
+                response.setDurationMinutes(candidate.durationMinutes());
+                response.setSlotStart(grid.slotTime(slot));
+                response.setSlotEnd(grid.slotTime(slot).plusMinutes(candidate.durationMinutes()));
+                out.add(response);
+            }
+        }
+    }
+}
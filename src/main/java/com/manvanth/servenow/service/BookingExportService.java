@@ -0,0 +1,63 @@
+package com.manvanth.servenow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manvanth.servenow.dto.response.BookingExportRow;
+import com.manvanth.servenow.repository.BookingRepository;
+import com.manvanth.servenow.util.CsvWriter;
+import com.manvanth.servenow.util.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for streaming booking history exports.
+ * Rows come from a forward-only database cursor as DTO projections (never managed
+ * entities) and are written straight to the response, so memory stays constant
+ * however long the provider's history is.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExportService {
+
+    private final BookingRepository bookingRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write every booking of a provider, newest first, to the given stream
+     */
+    @Transactional(readOnly = true)
+    public void exportProviderBookings(Long providerId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        long rows = 0;
+        try (Stream<BookingExportRow> stream = bookingRepository.streamProviderExport(providerId)) {
+            Iterator<BookingExportRow> iterator = stream.iterator();
+            if (format == ExportFormat.CSV) {
+                CsvWriter csv = new CsvWriter(writer);
+                csv.writeRow((Object[]) BookingExportRow.CSV_HEADER);
+                while (iterator.hasNext()) {
+                    csv.writeRow(iterator.next().toCsvValues());
+                    rows++;
+                }
+            } else {
+                while (iterator.hasNext()) {
+                    writer.write(objectMapper.writeValueAsString(iterator.next()));
+                    writer.write('\n');
+                    rows++;
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} bookings for provider {} as {}", rows, providerId, format);
+    }
+}
@@ -2,18 +2,24 @@ package com.manvanth.servenow.service;
 
 import com.manvanth.servenow.dto.request.BookingRequest;
 import com.manvanth.servenow.dto.response.BookingResponse;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
 import com.manvanth.servenow.entity.Booking;
 import com.manvanth.servenow.entity.User;
 import com.manvanth.servenow.exception.BookingException;
 import com.manvanth.servenow.exception.ResourceNotFoundException;
+import com.manvanth.servenow.monitoring.JfrEvents;
 import com.manvanth.servenow.repository.BookingRepository;
 import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,9 +34,14 @@ public class BookingService {
     private final BookingRepository bookingRepository;
     private final ServiceRepository serviceRepository;
     private final UserService userService;
+    private final ServiceCounterService serviceCounterService;
+    private final AudienceService audienceService;
+    private final TrendingService trendingService;
 
     public BookingResponse createBooking(Long customerId, BookingRequest request) {
         log.info("Creating booking for customer ID: {}", customerId);
+        JfrEvents.BookingCreated event = new JfrEvents.BookingCreated();
+        event.begin();
 
         User customer = userService.findUserEntityById(customerId);
         if (!customer.isCustomer()) {
@@ -47,8 +58,8 @@ public class BookingService {
 
         Booking booking = new Booking();
         booking.setService(service);
-        booking.setCustomerId(customerId);
-        booking.setProviderId(service.getProvider().getId());
+        booking.setCustomer(customer);
+        booking.setProvider(service.getProvider());
         booking.setScheduledAt(request.getScheduledAt());
         booking.setNotes(request.getNotes());
         booking.setServiceAddress(request.getServiceAddress());
@@ -56,8 +67,19 @@ public class BookingService {
         booking.setStatus(Booking.BookingStatus.REQUESTED);
 
         Booking savedBooking = bookingRepository.save(booking);
+        Long serviceId = service.getId();
+        afterCommit(() -> serviceCounterService.recordBooking(serviceId));
+        Long providerId = savedBooking.getProviderId();
+        afterCommit(() -> audienceService.recordCustomer(serviceId, providerId, customerId));
+        Long categoryId = service.getCategory().getId();
+        afterCommit(() -> trendingService.recordBooking(serviceId, categoryId));
         log.info("Booking created successfully with ID: {}", savedBooking.getId());
 
+        event.bookingId = savedBooking.getId();
+        event.serviceId = service.getId();
+        event.customerId = customerId;
+        event.commit();
+
         return mapToResponse(savedBooking);
     }
 
@@ -71,6 +93,32 @@ public class BookingService {
                 .map(this::mapToResponse);
     }
 
+    /**
+     * Keyset-paginated bookings of a customer, newest first; seeks on (created_at, id) without counting
+     */
+    public CursorPageResponse<BookingResponse> getCustomerBookingFeed(Long customerId, String cursor, int size) {
+        Pageable limit = CursorCodec.limit(size);
+        if (cursor == null) {
+            return toFeedPage(bookingRepository.findCustomerFeed(customerId, limit));
+        }
+        String[] key = CursorCodec.decode(cursor, 2);
+        return toFeedPage(bookingRepository.findCustomerFeedAfter(customerId,
+                CursorCodec.parse(key[0], LocalDateTime::parse), CursorCodec.parse(key[1], Long::valueOf), limit));
+    }
+
+    /**
+     * Keyset-paginated bookings of a provider, newest first; seeks on (created_at, id) without counting
+     */
+    public CursorPageResponse<BookingResponse> getProviderBookingFeed(Long providerId, String cursor, int size) {
+        Pageable limit = CursorCodec.limit(size);
+        if (cursor == null) {
+            return toFeedPage(bookingRepository.findProviderFeed(providerId, limit));
+        }
+        String[] key = CursorCodec.decode(cursor, 2);
+        return toFeedPage(bookingRepository.findProviderFeedAfter(providerId,
+                CursorCodec.parse(key[0], LocalDateTime::parse), CursorCodec.parse(key[1], Long::valueOf), limit));
+    }
+
     public BookingResponse getBookingById(Long bookingId, Long userId) {
         Booking booking = findBookingByIdOrThrow(bookingId);
         
@@ -92,7 +140,7 @@ public class BookingService {
             throw new BookingException("Only pending bookings can be accepted");
         }
         
-        booking.setStatus(Booking.BookingStatus.ACCEPTED);
+        changeStatus(booking, Booking.BookingStatus.ACCEPTED);
         Booking updatedBooking = bookingRepository.save(booking);
         
         return mapToResponse(updatedBooking);
@@ -108,7 +156,7 @@ public class BookingService {
             throw new BookingException("Only pending bookings can be rejected");
         }
         
-        booking.setStatus(Booking.BookingStatus.REJECTED);
+        changeStatus(booking, Booking.BookingStatus.REJECTED);
         Booking updatedBooking = bookingRepository.save(booking);
         
         return mapToResponse(updatedBooking);
@@ -124,7 +172,7 @@ public class BookingService {
             throw new BookingException("Only confirmed bookings can be completed");
         }
         
-        booking.setStatus(Booking.BookingStatus.COMPLETED);
+        changeStatus(booking, Booking.BookingStatus.COMPLETED);
         Booking updatedBooking = bookingRepository.save(booking);
         
         return mapToResponse(updatedBooking);
@@ -143,12 +191,23 @@ public class BookingService {
             throw new BookingException("Cannot cancel completed or already cancelled bookings");
         }
         
-        booking.setStatus(Booking.BookingStatus.CANCELLED);
+        changeStatus(booking, Booking.BookingStatus.CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
         
         return mapToResponse(updatedBooking);
     }
 
+    private void changeStatus(Booking booking, Booking.BookingStatus status) {
+        JfrEvents.BookingStatusChanged event = new JfrEvents.BookingStatusChanged();
+        if (event.shouldCommit()) {
+            event.bookingId = booking.getId();
+            event.fromStatus = booking.getStatus().name();
+            event.toStatus = status.name();
+            event.commit();
+        }
+        booking.setStatus(status);
+    }
+
     private Booking findBookingByIdOrThrow(Long bookingId) {
         return bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
@@ -160,6 +219,29 @@ public class BookingService {
         }
     }
 
+    /**
+     * Run an in-memory counter update once the booking commits, so a rolled-back booking is never counted
+     */
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private CursorPageResponse<BookingResponse> toFeedPage(Slice<Booking> slice) {
+        List<Booking> bookings = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !bookings.isEmpty()) {
+            Booking last = bookings.get(bookings.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        List<BookingResponse> items = bookings.stream().map(this::mapToResponse).toList();
+        return new CursorPageResponse<>(items, nextCursor, slice.hasNext(), null);
+    }
+
     private BookingResponse mapToResponse(Booking booking) {
         BookingResponse response = new BookingResponse();
         response.setId(booking.getId());
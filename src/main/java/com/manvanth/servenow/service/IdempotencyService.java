@@ -0,0 +1,161 @@
+package com.manvanth.servenow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manvanth.servenow.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Service for making create endpoints safe to retry with an Idempotency-Key header.
+ * Results are kept in memory per (scope, principal, key) for a limited time: a replay is
+ * answered from the stored response without touching the database, and concurrent
+ * duplicates wait on the in-flight request instead of executing it a second time.
+ * A key is bound to the SHA-256 digest of the JSON-serialized request body, so reusing it
+ * for a different payload is rejected.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    @Value("${idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    /**
+     * Run the action once per idempotency key, returning the stored result for replays.
+     * Without a key the action simply runs. Failed actions are not stored so that the
+     * client can retry them.
+     */
+    public <T> T execute(String scope, String principal, String idempotencyKey, Object request, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must not exceed " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = scope + '|' + principal + '|' + idempotencyKey;
+        byte[] fingerprint = fingerprint(request);
+
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.isExpired(System.currentTimeMillis())) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (existing != null) {
+                if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                    throw new ValidationException("Idempotency-Key has already been used for a different request");
+                }
+                log.debug("Replaying stored response for idempotency key {} in scope {}", idempotencyKey, scope);
+                return existing.await(waitTimeoutMs);
+            }
+
+            if (entries.size() >= maxEntries) {
+                purgeExpired();
+                if (entries.size() >= maxEntries) {
+                    log.warn("Idempotency store is full ({} entries), executing request without replay protection",
+                            entries.size());
+                    return action.get();
+                }
+            }
+
+            Entry created = new Entry(fingerprint);
+            if (entries.putIfAbsent(key, created) != null) {
+                continue; // Lost the race, coalesce onto the winner
+            }
+            return created.run(action, () -> entries.remove(key, created), TimeUnit.MINUTES.toMillis(ttlMinutes));
+        }
+    }
+
+    /**
+     * Drop completed entries whose retention window has passed
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request for Idempotency-Key check", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        private <T> T run(Supplier<T> action, Runnable onFailure, long ttlMillis) {
+            try {
+                T value = action.get();
+                expiresAt = System.currentTimeMillis() + ttlMillis;
+                result.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                onFailure.run();
+                result.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T await(long timeoutMs) {
+            try {
+                return (T) result.get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("A request with this Idempotency-Key is still being processed");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the original request");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Original request failed", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.JfrRecordingResponse;
+import com.manvanth.servenow.exception.ResourceNotFoundException;
+import com.manvanth.servenow.exception.ValidationException;
+import com.manvanth.servenow.monitoring.JfrEvents;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Service for Java Flight Recorder recordings.
+ * A continuous recording with the low-overhead "default" settings runs from startup
+ * and keeps the last hour on disk, so a hot spot can be downloaded after the fact.
+ * Admins can also start bounded on-demand recordings, e.g. with the "profile" settings.
+ * Recordings started here write their data to jfr.directory when they stop, after which the
+ * JVM closes them; the saved files stay downloadable until deleted or jfr.retention-hours passes.
+ */
+@Service
+@Slf4j
+public class JfrRecordingService {
+
+    public static final String CONTINUOUS_RECORDING = "servenow-continuous";
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final List<Class<? extends jdk.jfr.Event>> BUSINESS_EVENTS = List.of(
+            JfrEvents.BookingCreated.class, JfrEvents.BookingStatusChanged.class, JfrEvents.Search.class,
+            JfrEvents.JwtVerification.class, JfrEvents.PasswordHash.class, JfrEvents.RatingRecompute.class);
+
+    @Value("${jfr.continuous.enabled:true}")
+    private boolean continuousEnabled;
+
+    @Value("${jfr.continuous.max-age-minutes:60}")
+    private long continuousMaxAgeMinutes;
+
+    @Value("${jfr.continuous.max-size-mb:100}")
+    private long continuousMaxSizeMb;
+
+    @Value("${jfr.max-duration-minutes:30}")
+    private long maxDurationMinutes;
+
+    @Value("${jfr.directory:./jfr-recordings}")
+    private String directory;
+
+    @Value("${jfr.retention-hours:24}")
+    private long retentionHours;
+
+    // Ids restart with the JVM, so files left by an earlier run are only found by the retention purge
+    private final Map<Long, Path> savedRecordings = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (!continuousEnabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        Recording recording = newRecording("default", CONTINUOUS_RECORDING);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(continuousMaxAgeMinutes));
+        recording.setMaxSize(continuousMaxSizeMb * 1024 * 1024);
+        recording.start();
+        log.info("Started continuous JFR recording {} keeping the last {} minutes", recording.getId(), continuousMaxAgeMinutes);
+    }
+
+    public List<JfrRecordingResponse> getRecordings() {
+        List<Recording> live = FlightRecorder.getFlightRecorder().getRecordings();
+        Stream<JfrRecordingResponse> saved = savedRecordings.entrySet().stream()
+                .filter(e -> live.stream().noneMatch(recording -> recording.getId() == e.getKey()))
+                .filter(e -> Files.exists(e.getValue()))
+                .map(e -> toResponse(e.getKey(), e.getValue()));
+        return Stream.concat(live.stream().map(this::toResponse), saved).toList();
+    }
+
+    /**
+     * Start a recording that stops by itself after the given duration (capped at jfr.max-duration-minutes)
+     */
+    public JfrRecordingResponse startRecording(String settings, int durationMinutes) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("Flight Recorder is not available in this JVM");
+        }
+        if (!SETTINGS.contains(settings)) {
+            throw new ValidationException("Settings must be one of " + SETTINGS);
+        }
+        long minutes = Math.max(1, Math.min(durationMinutes, maxDurationMinutes));
+        Recording recording = newRecording(settings, "servenow-" + settings + "-" + System.currentTimeMillis());
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofMinutes(minutes));
+        recording.start();
+        log.info("Started JFR recording {} with '{}' settings for {} minutes", recording.getId(), settings, minutes);
+        return toResponse(recording);
+    }
+
+    public JfrRecordingResponse stopRecording(long id) {
+        Recording recording = findRecording(id);
+        if (recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("Recording " + id + " is not running");
+        }
+        recording.stop();
+        log.info("Stopped JFR recording {}", id);
+        return toResponse(recording);
+    }
+
+    /**
+     * Copy the recording's data so far to a temporary file the caller must delete; a running recording keeps going
+     */
+    public Path dumpRecording(long id) throws IOException {
+        Recording recording = findLiveRecording(id);
+        Path saved = savedRecordings.get(id);
+        if (recording == null && (saved == null || !Files.exists(saved))) {
+            throw new ResourceNotFoundException("Recording", "id", id);
+        }
+        if (recording != null && (recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED)) {
+            throw new IllegalStateException("Recording " + id + " has no data to download");
+        }
+        Path file = Files.createTempFile("servenow-" + id + "-", ".jfr");
+        try {
+            if (recording != null) {
+                recording.dump(file);
+            } else {
+                Files.copy(saved, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /**
+     * Discard a recording and its data, including the saved file of a stopped one
+     */
+    public void closeRecording(long id) throws IOException {
+        Recording recording = findLiveRecording(id);
+        Path saved = savedRecordings.remove(id);
+        if (recording == null && saved == null) {
+            throw new ResourceNotFoundException("Recording", "id", id);
+        }
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                // Cleared first so a recording closed while running does not write its file
+                recording.setDestination(null);
+            }
+            recording.close();
+        }
+        if (saved != null) {
+            Files.deleteIfExists(saved);
+        }
+        log.info("Closed JFR recording {}", id);
+    }
+
+    /**
+     * Delete saved recordings older than jfr.retention-hours, including files left by an earlier run
+     */
+    @Scheduled(fixedDelayString = "${jfr.purge-interval-ms:600000}")
+    public void purgeSavedRecordings() {
+        Path dir = Paths.get(directory);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".jfr")).toList()) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    Files.deleteIfExists(file);
+                    savedRecordings.values().remove(file);
+                    log.info("Deleted expired JFR recording file {}", file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not purge JFR recordings in {}", dir, e);
+        }
+    }
+
+    private Recording newRecording(String settings, String name) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName(name);
+            for (Class<? extends jdk.jfr.Event> event : BUSINESS_EVENTS) {
+                recording.enable(event);
+            }
+            setDestination(recording);
+            return recording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JFR settings '" + settings + "'", e);
+        }
+    }
+
+    /**
+     * On stop, however it happens, the JVM writes the data here and then closes the recording
+     */
+    private void setDestination(Recording recording) {
+        Path file = Paths.get(directory)
+                .resolve("recording-" + recording.getId() + "-" + System.currentTimeMillis() + ".jfr");
+        try {
+            Files.createDirectories(file.getParent());
+            recording.setDestination(file);
+        } catch (IOException e) {
+            recording.close();
+            throw new IllegalStateException("Could not use JFR directory " + directory, e);
+        }
+        savedRecordings.put(recording.getId(), file);
+    }
+
+    private Recording findRecording(long id) {
+        Recording recording = findLiveRecording(id);
+        if (recording == null) {
+            throw new ResourceNotFoundException("Recording", "id", id);
+        }
+        return recording;
+    }
+
+    private Recording findLiveRecording(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private JfrRecordingResponse toResponse(Recording recording) {
+        Duration duration = recording.getDuration();
+        return new JfrRecordingResponse(recording.getId(), recording.getName(), recording.getState().name(),
+                recording.getStartTime(), duration != null ? duration.toSeconds() : null, recording.getSize());
+    }
+
+    private JfrRecordingResponse toResponse(long id, Path file) {
+        Long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            size = null;
+        }
+        return new JfrRecordingResponse(id, file.getFileName().toString(), RecordingState.CLOSED.name(), null, null, size);
+    }
+}
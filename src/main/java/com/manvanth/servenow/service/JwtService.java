@@ -1,9 +1,12 @@
 package com.manvanth.servenow.service;
 
+import com.manvanth.servenow.monitoring.JfrEvents;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Service;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -25,6 +29,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtService {
 
+    private final Timer signTimer;
+    private final Timer parseTimer;
+    private final Timer parseFailureTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.signTimer = timer(meterRegistry, "sign", "success");
+        this.parseTimer = timer(meterRegistry, "parse", "success");
+        this.parseFailureTimer = timer(meterRegistry, "parse", "failure");
+    }
+
     @Value("${jwt.secret}")
     private String secretKey;
     
@@ -91,13 +105,13 @@ public class JwtService {
      * Generate JWT token with extra claims
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails, Long expiration) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .compact());
     }
 
     /**
@@ -128,14 +142,27 @@ public class JwtService {
     }
 
     /**
-     * Extract all claims from JWT token
+     * Extract all claims from JWT token, verifying its signature (timed under servenow.jwt)
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        JfrEvents.JwtVerification event = new JfrEvents.JwtVerification();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+            parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.valid = true;
+            return claims;
+        } catch (RuntimeException e) {
+            parseFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            event.commit();
+        }
     }
 
     /**
@@ -196,4 +223,12 @@ public class JwtService {
         
         return (expirationTime - currentTime) / 1000; // Convert to seconds
     }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("servenow.jwt")
+                .description("Time spent signing and verifying JWTs")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
\ No newline at end of file
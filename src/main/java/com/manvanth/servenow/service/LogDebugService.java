@@ -0,0 +1,82 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.LogDebugTargetResponse;
+import com.manvanth.servenow.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for temporarily raising the log level of a single user or request id.
+ * Targets expire by themselves so debug logging cannot be left on by accident.
+ */
+@Service
+@Slf4j
+public class LogDebugService {
+
+    public enum TargetType { USER, REQUEST }
+
+    private final ConcurrentHashMap<String, Instant> userTargets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Instant> requestTargets = new ConcurrentHashMap<>();
+
+    @Value("${logging.debug-targets.max-minutes:60}")
+    private long maxMinutes;
+
+    public LogDebugTargetResponse addTarget(TargetType type, String value, int minutes) {
+        if (value == null || value.isBlank()) {
+            throw new ValidationException("A user id or request id is required");
+        }
+        Instant expiresAt = Instant.now().plusSeconds(60 * Math.max(1, Math.min(minutes, maxMinutes)));
+        targets(type).put(value, expiresAt);
+        log.info("Debug logging enabled for {} {} until {}", type, value, expiresAt);
+        return new LogDebugTargetResponse(type.name(), value, expiresAt);
+    }
+
+    public void removeTarget(TargetType type, String value) {
+        targets(type).remove(value);
+        log.info("Debug logging disabled for {} {}", type, value);
+    }
+
+    public List<LogDebugTargetResponse> getTargets() {
+        List<LogDebugTargetResponse> result = new ArrayList<>();
+        for (TargetType type : TargetType.values()) {
+            targets(type).forEach((value, expiresAt) -> {
+                if (expiresAt.isAfter(Instant.now())) {
+                    result.add(new LogDebugTargetResponse(type.name(), value, expiresAt));
+                }
+            });
+        }
+        result.sort(Comparator.comparing(LogDebugTargetResponse::getExpiresAt));
+        return result;
+    }
+
+    /**
+     * Whether a request should log at debug; called for every request, so it is two map lookups when nothing is targeted
+     */
+    public boolean isTargeted(Long userId, String requestId) {
+        return (userId != null && isActive(userTargets, userId.toString()))
+                || (requestId != null && isActive(requestTargets, requestId));
+    }
+
+    private static boolean isActive(ConcurrentHashMap<String, Instant> targets, String value) {
+        Instant expiresAt = targets.get(value);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt.isBefore(Instant.now())) {
+            targets.remove(value, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private ConcurrentHashMap<String, Instant> targets(TargetType type) {
+        return type == TargetType.USER ? userTargets : requestTargets;
+    }
+}
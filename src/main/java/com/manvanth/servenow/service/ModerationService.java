@@ -0,0 +1,69 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.request.ReviewModerationRequest;
+import com.manvanth.servenow.dto.response.ModerationResultResponse;
+import com.manvanth.servenow.dto.response.ReviewResponse;
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service for the review moderation queue.
+ * Bulk actions change the status of the whole batch with one set-based UPDATE and
+ * then recompute rating aggregates once for the services and providers involved.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ModerationService {
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final RatingAggregationService ratingAggregationService;
+
+    @Transactional(readOnly = true)
+    public Page<ReviewResponse> getQueue(Review.ReviewStatus status, Pageable pageable) {
+        return reviewRepository.findModerationQueue(status, pageable)
+                .map(reviewService::mapToResponse);
+    }
+
+    public ModerationResultResponse moderate(ReviewModerationRequest request) {
+        Review.ReviewStatus target = switch (request.getAction()) {
+            case APPROVE -> Review.ReviewStatus.PUBLISHED;
+            case REJECT -> Review.ReviewStatus.REMOVED;
+            case HIDE -> Review.ReviewStatus.HIDDEN;
+        };
+        Set<Long> reviewIds = new LinkedHashSet<>(request.getReviewIds());
+
+        // Which services/providers the batch touches, captured before the statuses change
+        Set<Long> serviceIds = new HashSet<>();
+        Set<Long> providerIds = new HashSet<>();
+        List<Object[]> owners = reviewRepository.findServiceAndProviderIdsByIds(reviewIds);
+        for (Object[] row : owners) {
+            serviceIds.add((Long) row[0]);
+            providerIds.add((Long) row[1]);
+        }
+
+        String notes = request.getNotes() == null || request.getNotes().isBlank() ? null : request.getNotes().trim();
+        int updated = reviewRepository.updateStatus(reviewIds, target, notes, LocalDateTime.now());
+        if (updated > 0) {
+            ratingAggregationService.recompute(serviceIds, providerIds);
+        }
+
+        log.info("Moderation {}: {} of {} reviews set to {}, recomputed ratings for {} services",
+                request.getAction(), updated, reviewIds.size(), target, serviceIds.size());
+        return new ModerationResultResponse(request.getAction().name(), target.name(), reviewIds.size(), updated);
+    }
+}
@@ -0,0 +1,136 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.RatingSummaryResponse;
+import com.manvanth.servenow.entity.RatingBreakdown;
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.exception.ResourceNotFoundException;
+import com.manvanth.servenow.monitoring.JfrEvents;
+import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Service maintaining precomputed rating aggregates for services and providers.
+ * Each service and provider row carries a running sum/count, a 5-bucket star
+ * histogram and sum/count per detailed rating. A review entering or leaving the
+ * published set changes them with a single atomic UPDATE, reads are O(1) from the
+ * row, and a periodic job recomputes everything from the reviews table to repair drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class RatingAggregationService {
+
+    private static final int RECOMPUTE_CHUNK_SIZE = 500;
+
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Count a newly published review in its service and provider aggregates
+     */
+    public void addReview(Review review) {
+        apply(review, 1);
+    }
+
+    /**
+     * Stop counting a review that is no longer published
+     */
+    public void removeReview(Review review) {
+        apply(review, -1);
+    }
+
+    private void apply(Review review, int direction) {
+        BigDecimal ratingDelta = review.getOverallRating().multiply(BigDecimal.valueOf(direction));
+        RatingBreakdown delta = RatingBreakdown.delta(review, direction);
+        serviceRepository.applyRatingDelta(review.getServiceId(), ratingDelta, direction, delta);
+        userRepository.applyRatingDelta(review.getProviderId(), ratingDelta, direction, delta);
+    }
+
+    /**
+     * Recompute the aggregates of the given services and providers from their published reviews
+     */
+    public void recompute(Collection<Long> serviceIds, Collection<Long> providerIds) {
+        JfrEvents.RatingRecompute event = new JfrEvents.RatingRecompute();
+        event.begin();
+        event.services = inChunks(serviceIds, serviceRepository::recomputeRatings);
+        event.providers = inChunks(providerIds, userRepository::recomputeProviderRatings);
+        event.trigger = "moderation";
+        event.commit();
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummaryResponse getServiceRating(Long serviceId) {
+        com.manvanth.servenow.entity.Service service = serviceRepository.findById(serviceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service", "id", serviceId));
+        return toSummary(service.getId(), service.getTitle(), service.getAverageRating(),
+                service.getTotalReviews(), service.getRatingBreakdown());
+    }
+
+    @Transactional(readOnly = true)
+    public RatingSummaryResponse getProviderRating(Long providerId) {
+        User provider = userRepository.findById(providerId)
+                .filter(User::isProvider)
+                .orElseThrow(() -> new ResourceNotFoundException("Provider", "id", providerId));
+        return toSummary(provider.getId(), provider.getFullName(), provider.getAverageRating(),
+                provider.getTotalReviews(), provider.getRatingBreakdown());
+    }
+
+    /**
+     * Recompute all rating aggregates from published reviews
+     */
+    @Scheduled(initialDelayString = "${ratings.reconcile-initial-delay-ms:300000}",
+               fixedDelayString = "${ratings.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        JfrEvents.RatingRecompute event = new JfrEvents.RatingRecompute();
+        event.begin();
+        int services = inChunks(serviceRepository.findAllIds(), serviceRepository::recomputeRatings);
+        int providers = inChunks(serviceRepository.findAllProviderIds(), userRepository::recomputeProviderRatings);
+        event.trigger = "reconcile";
+        event.services = services;
+        event.providers = providers;
+        event.commit();
+        log.info("Reconciled rating aggregates for {} services and {} providers in {} ms",
+                services, providers, System.currentTimeMillis() - start);
+    }
+
+    private int inChunks(Collection<Long> ids, ToIntFunction<Collection<Long>> update) {
+        List<Long> all = new ArrayList<>(ids);
+        int updated = 0;
+        for (int from = 0; from < all.size(); from += RECOMPUTE_CHUNK_SIZE) {
+            updated += update.applyAsInt(all.subList(from, Math.min(from + RECOMPUTE_CHUNK_SIZE, all.size())));
+        }
+        return updated;
+    }
+
+    private RatingSummaryResponse toSummary(Long id, String name, BigDecimal averageRating,
+                                            Integer totalReviews, RatingBreakdown breakdown) {
+        // All-NULL embedded columns (rows created before the breakdown existed) load as null
+        RatingBreakdown ratings = breakdown != null ? breakdown : new RatingBreakdown();
+
+        RatingSummaryResponse response = new RatingSummaryResponse();
+        response.setId(id);
+        response.setName(name);
+        response.setAverageRating(averageRating);
+        response.setTotalReviews(totalReviews != null ? totalReviews : 0);
+        response.setDistribution(ratings.getDistribution());
+        response.setAverageQuality(ratings.getAverageQuality());
+        response.setAverageCommunication(ratings.getAverageCommunication());
+        response.setAveragePunctuality(ratings.getAveragePunctuality());
+        response.setAverageValue(ratings.getAverageValue());
+        return response;
+    }
+}
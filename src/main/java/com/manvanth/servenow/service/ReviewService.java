@@ -1,6 +1,7 @@
 package com.manvanth.servenow.service;
 
 import com.manvanth.servenow.dto.request.ReviewRequest;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
 import com.manvanth.servenow.dto.response.ReviewResponse;
 import com.manvanth.servenow.entity.Booking;
 import com.manvanth.servenow.entity.Review;
@@ -9,15 +10,18 @@ import com.manvanth.servenow.exception.ResourceNotFoundException;
 import com.manvanth.servenow.exception.ValidationException;
 import com.manvanth.servenow.repository.BookingRepository;
 import com.manvanth.servenow.repository.ReviewRepository;
-import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,8 +31,11 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final BookingRepository bookingRepository;
-    private final ServiceRepository serviceRepository;
     private final UserService userService;
+    private final RatingAggregationService ratingAggregationService;
+
+    @Value("${reviews.moderation.require-approval:false}")
+    private boolean requireApproval;
 
     public ReviewResponse createReview(Long customerId, ReviewRequest request) {
         log.info("Creating review for customer ID: {}", customerId);
@@ -59,26 +66,99 @@ public class ReviewService {
         review.setProviderId(booking.getProviderId());
         review.setRating(request.getRating());
         review.setComment(request.getComment());
+        review.setStatus(requireApproval ? Review.ReviewStatus.PENDING : Review.ReviewStatus.PUBLISHED);
 
         Review savedReview = reviewRepository.save(review);
         
-        // Update service ratings
-        updateServiceRatings(booking.getService().getId());
+        // Add to the running service and provider rating totals
+        if (savedReview.getStatus() == Review.ReviewStatus.PUBLISHED) {
+            ratingAggregationService.addReview(savedReview);
+        }
 
         log.info("Review created successfully with ID: {}", savedReview.getId());
         return mapToResponse(savedReview);
     }
 
     public Page<ReviewResponse> getServiceReviews(Long serviceId, Pageable pageable) {
-        return reviewRepository.findByService_IdOrderByCreatedAtDesc(serviceId, pageable)
+        return reviewRepository.findByService_IdAndStatusOrderByCreatedAtDesc(
+                        serviceId, Review.ReviewStatus.PUBLISHED, pageable)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Published reviews of a service ranked by helpful ratio, then helpful votes
+     */
+    public Page<ReviewResponse> getMostHelpfulReviews(Long serviceId, Pageable pageable) {
+        return reviewRepository.findMostHelpfulByServiceId(serviceId, pageable)
                 .map(this::mapToResponse);
     }
 
     public Page<ReviewResponse> getProviderReviews(Long providerId, Pageable pageable) {
-        return reviewRepository.findByService_Provider_IdOrderByCreatedAtDesc(providerId, pageable)
+        return reviewRepository.findByService_Provider_IdAndStatusOrderByCreatedAtDesc(
+                        providerId, Review.ReviewStatus.PUBLISHED, pageable)
                 .map(this::mapToResponse);
     }
 
+    /**
+     * Orderings available for cursor-paginated review feeds
+     */
+    public enum FeedSort {
+        RECENT,
+        HELPFUL
+    }
+
+    /**
+     * Keyset-paginated feed of a service's published reviews.
+     * Seeks past the cursor on (created_at, id) or (helpful_count, id) instead of using
+     * OFFSET, and only counts the total when asked to.
+     */
+    public CursorPageResponse<ReviewResponse> getServiceReviewFeed(Long serviceId, FeedSort sort, String cursor,
+                                                                   int size, boolean includeTotal) {
+        Pageable limit = CursorCodec.limit(size);
+        Slice<Review> slice;
+        if (sort == FeedSort.HELPFUL) {
+            if (cursor == null) {
+                slice = reviewRepository.findServiceFeedByHelpfulness(serviceId, limit);
+            } else {
+                String[] key = CursorCodec.decode(cursor, 2);
+                slice = reviewRepository.findServiceFeedByHelpfulnessAfter(serviceId,
+                        CursorCodec.parse(key[0], Integer::valueOf), CursorCodec.parse(key[1], Long::valueOf), limit);
+            }
+        } else if (cursor == null) {
+            slice = reviewRepository.findServiceFeedByRecency(serviceId, limit);
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            slice = reviewRepository.findServiceFeedByRecencyAfter(serviceId,
+                    CursorCodec.parse(key[0], LocalDateTime::parse), CursorCodec.parse(key[1], Long::valueOf), limit);
+        }
+
+        Long total = includeTotal
+                ? reviewRepository.countByService_IdAndStatus(serviceId, Review.ReviewStatus.PUBLISHED)
+                : null;
+        return toFeedPage(slice, sort, total);
+    }
+
+    /**
+     * Keyset-paginated feed of a provider's most recent published reviews
+     */
+    public CursorPageResponse<ReviewResponse> getProviderReviewFeed(Long providerId, String cursor,
+                                                                    int size, boolean includeTotal) {
+        Pageable limit = CursorCodec.limit(size);
+        Slice<Review> slice;
+        if (cursor == null) {
+            slice = reviewRepository.findProviderFeedByRecency(providerId, limit);
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            slice = reviewRepository.findProviderFeedByRecencyAfter(providerId,
+                    CursorCodec.parse(key[0], LocalDateTime::parse), CursorCodec.parse(key[1], Long::valueOf), limit);
+        }
+
+        Long total = includeTotal
+                ? reviewRepository.countByService_Provider_IdAndStatus(providerId, Review.ReviewStatus.PUBLISHED)
+                : null;
+        return toFeedPage(slice, FeedSort.RECENT, total);
+    }
+
     public Page<ReviewResponse> getCustomerReviews(Long customerId, Pageable pageable) {
         return reviewRepository.findByCustomer_IdOrderByCreatedAtDesc(customerId, pageable)
                 .map(this::mapToResponse);
@@ -90,25 +170,20 @@ public class ReviewService {
         return mapToResponse(review);
     }
 
-    private void updateServiceRatings(Long serviceId) {
-        try {
-            Double averageRating = reviewRepository.findAverageRatingByServiceId(serviceId);
-            Long totalReviews = reviewRepository.countByServiceId(serviceId);
-
-            com.manvanth.servenow.entity.Service service = serviceRepository.findById(serviceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Service", "id", serviceId));
-
-            service.setAverageRating(averageRating != null ? BigDecimal.valueOf(averageRating) : BigDecimal.ZERO);
-            service.setTotalReviews(totalReviews != null ? totalReviews.intValue() : 0);
-
-            serviceRepository.save(service);
-            log.info("Updated service {} ratings: {} stars, {} reviews", serviceId, averageRating, totalReviews);
-        } catch (Exception e) {
-            log.error("Failed to update service ratings for service {}", serviceId, e);
+    private CursorPageResponse<ReviewResponse> toFeedPage(Slice<Review> slice, FeedSort sort, Long total) {
+        List<Review> reviews = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !reviews.isEmpty()) {
+            Review last = reviews.get(reviews.size() - 1);
+            nextCursor = sort == FeedSort.HELPFUL
+                    ? CursorCodec.encode(last.getHelpfulCount() != null ? last.getHelpfulCount() : 0, last.getId())
+                    : CursorCodec.encode(last.getCreatedAt(), last.getId());
         }
+        List<ReviewResponse> items = reviews.stream().map(this::mapToResponse).toList();
+        return new CursorPageResponse<>(items, nextCursor, slice.hasNext(), total);
     }
 
-    private ReviewResponse mapToResponse(Review review) {
+    ReviewResponse mapToResponse(Review review) {
         ReviewResponse response = new ReviewResponse();
         response.setId(review.getId());
         response.setServiceId(review.getServiceId());
@@ -116,6 +191,10 @@ public class ReviewService {
         response.setProviderId(review.getProviderId());
         response.setRating(review.getRating());
         response.setComment(review.getComment());
+        response.setHelpfulCount(review.getHelpfulCount());
+        response.setNotHelpfulCount(review.getNotHelpfulCount());
+        response.setHelpfulRatio(review.getHelpfulRatio());
+        response.setStatus(review.getStatus() != null ? review.getStatus().name() : null);
         response.setCreatedAt(review.getCreatedAt());
 
         // Get additional details
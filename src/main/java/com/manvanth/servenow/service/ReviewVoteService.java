@@ -0,0 +1,170 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.entity.ReviewVote;
+import com.manvanth.servenow.exception.ResourceNotFoundException;
+import com.manvanth.servenow.exception.ValidationException;
+import com.manvanth.servenow.repository.ReviewRepository;
+import com.manvanth.servenow.repository.ReviewVoteRepository;
+import com.manvanth.servenow.repository.UserRepository;
+import com.manvanth.servenow.util.CounterBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service for review helpfulness votes.
+ * The vote row (unique per user and review) is written synchronously and is the
+ * durable record. The review's helpful/not-helpful counters are bumped in memory
+ * and flushed every few seconds in one batched UPDATE, so a popular review is
+ * not row-locked on every vote. Lost buffered deltas (crash, failed flush race)
+ * are repaired by the periodic recount from the votes table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ReviewVoteService {
+
+    private static final String FLUSH_SQL = "UPDATE reviews SET " +
+            "helpful_count = COALESCE(helpful_count, 0) + ?, " +
+            "not_helpful_count = COALESCE(not_helpful_count, 0) + ? WHERE id = ?";
+
+    private static final String RECOUNT_SQL = "UPDATE reviews r SET " +
+            "helpful_count = (SELECT COUNT(*) FROM review_votes v WHERE v.review_id = r.id AND v.helpful = TRUE), " +
+            "not_helpful_count = (SELECT COUNT(*) FROM review_votes v WHERE v.review_id = r.id AND v.helpful = FALSE) " +
+            "WHERE r.id IN (SELECT review_id FROM review_votes)";
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewVoteRepository reviewVoteRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final CounterBuffer<Long> helpfulCounts = new CounterBuffer<>();
+    private final CounterBuffer<Long> notHelpfulCounts = new CounterBuffer<>();
+
+    /**
+     * Record a user's vote; voting again with the other value switches the vote
+     */
+    public void vote(Long reviewId, Long userId, boolean helpful) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review", "id", reviewId));
+
+        if (review.getStatus() != Review.ReviewStatus.PUBLISHED) {
+            throw new ValidationException("Only published reviews can be voted on");
+        }
+        if (userId.equals(review.getCustomerId())) {
+            throw new ValidationException("You cannot vote on your own review");
+        }
+
+        ReviewVote vote = reviewVoteRepository.findByReview_IdAndUser_Id(reviewId, userId).orElse(null);
+        if (vote != null) {
+            if (vote.getHelpful() == helpful) {
+                return;
+            }
+            vote.setHelpful(helpful);
+            reviewVoteRepository.save(vote);
+            bufferAfterCommit(reviewId, helpful ? 1 : -1, helpful ? -1 : 1);
+        } else {
+            try {
+                reviewVoteRepository.saveAndFlush(new ReviewVote(review, userRepository.getReferenceById(userId), helpful));
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("A vote from this user is already being recorded");
+            }
+            bufferAfterCommit(reviewId, helpful ? 1 : 0, helpful ? 0 : 1);
+        }
+        log.debug("User {} voted review {} as {}", userId, reviewId, helpful ? "helpful" : "not helpful");
+    }
+
+    /**
+     * Write buffered counter deltas to the reviews table in one batch
+     */
+    @Scheduled(fixedDelayString = "${reviews.votes.flush-interval-ms:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void flush() {
+        Map<Long, Long> helpful = helpfulCounts.drain();
+        Map<Long, Long> notHelpful = notHelpfulCounts.drain();
+        if (helpful.isEmpty() && notHelpful.isEmpty()) {
+            return;
+        }
+
+        Set<Long> reviewIds = new HashSet<>(helpful.keySet());
+        reviewIds.addAll(notHelpful.keySet());
+        List<Object[]> batch = new ArrayList<>(reviewIds.size());
+        for (Long reviewId : reviewIds) {
+            batch.add(new Object[]{helpful.getOrDefault(reviewId, 0L), notHelpful.getOrDefault(reviewId, 0L), reviewId});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            log.debug("Flushed helpful votes for {} reviews", batch.size());
+        } catch (DataAccessException e) {
+            // The batch rolled back as a whole, so every delta goes back for the next attempt
+            helpfulCounts.restore(helpful);
+            notHelpfulCounts.restore(notHelpful);
+            log.warn("Failed to flush helpful votes for {} reviews, will retry", batch.size(), e);
+        }
+    }
+
+    /**
+     * Recount helpful counters from the votes table
+     */
+    @Scheduled(initialDelayString = "${reviews.votes.recount-initial-delay-ms:60000}",
+               fixedDelayString = "${reviews.votes.recount-interval-ms:21600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void recount() {
+        Map<Long, Long> countedHelpful = new HashMap<>();
+        Map<Long, Long> countedNotHelpful = new HashMap<>();
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(RECOUNT_SQL);
+                // Buffered deltas are from votes committed before the UPDATE read review_votes, so the
+                // recount already counted them. Its shared locks on review_votes hold later votes back
+                // until this commits, so those are buffered after this drain and kept.
+                countedHelpful.putAll(helpfulCounts.drain());
+                countedNotHelpful.putAll(notHelpfulCounts.drain());
+                return rows;
+            });
+            log.info("Recounted helpful votes for {} reviews", updated);
+        } catch (DataAccessException | TransactionException e) {
+            // Nothing was recounted, so the drained deltas are still owed
+            helpfulCounts.restore(countedHelpful);
+            notHelpfulCounts.restore(countedNotHelpful);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void bufferAfterCommit(Long reviewId, long helpfulDelta, long notHelpfulDelta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                helpfulCounts.add(reviewId, helpfulDelta);
+                notHelpfulCounts.add(reviewId, notHelpfulDelta);
+            }
+        });
+    }
+}
@@ -0,0 +1,148 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.util.CounterBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for service view and booking counters.
+ * Increments are coalesced in memory per service id and written as one batched
+ * UPDATE when the flush interval elapses or the number of pending increments
+ * reaches the threshold, so reading a service page never writes its row.
+ * Buffers are drained on shutdown.
+ */
+@Service
+@Slf4j
+public class ServiceCounterService {
+
+    private static final String FLUSH_SQL = "UPDATE services SET " +
+            "view_count = COALESCE(view_count, 0) + ?, " +
+            "total_bookings = COALESCE(total_bookings, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    private final CounterBuffer<Long> viewCounts = new CounterBuffer<>();
+    private final CounterBuffer<Long> bookingCounts = new CounterBuffer<>();
+    private final AtomicLong pendingIncrements = new AtomicLong();
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    private final AtomicBoolean thresholdFlushScheduled = new AtomicBoolean();
+
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    @Value("${counters.flush-threshold:1000}")
+    private long flushThreshold;
+
+    public ServiceCounterService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+
+        this.flushTimer = Timer.builder("servenow.counters.flush")
+                .description("Time taken to write buffered service counters")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("servenow.counters.flush.failures")
+                .description("Counter flushes that failed and were retried")
+                .register(meterRegistry);
+        Gauge.builder("servenow.counters.pending", pendingIncrements, AtomicLong::get)
+                .description("Increments buffered and not yet written")
+                .register(meterRegistry);
+        Gauge.builder("servenow.counters.flush.lag", this, ServiceCounterService::flushLagSeconds)
+                .description("Age of the oldest unwritten increment")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void recordView(Long serviceId) {
+        viewCounts.add(serviceId, 1);
+        afterIncrement();
+    }
+
+    public void recordBooking(Long serviceId) {
+        bookingCounts.add(serviceId, 1);
+        afterIncrement();
+    }
+
+    private void afterIncrement() {
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        if (pendingIncrements.incrementAndGet() >= flushThreshold && thresholdFlushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * Write all buffered increments in one batch
+     */
+    @Scheduled(fixedDelayString = "${counters.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        thresholdFlushScheduled.set(false);
+        long pendingSince = oldestPendingAt.getAndSet(0);
+        Map<Long, Long> views = viewCounts.drain();
+        Map<Long, Long> bookings = bookingCounts.drain();
+        if (views.isEmpty() && bookings.isEmpty()) {
+            return;
+        }
+
+        Set<Long> serviceIds = new HashSet<>(views.keySet());
+        serviceIds.addAll(bookings.keySet());
+        List<Object[]> batch = new ArrayList<>(serviceIds.size());
+        long drained = 0;
+        for (Long serviceId : serviceIds) {
+            long viewDelta = views.getOrDefault(serviceId, 0L);
+            long bookingDelta = bookings.getOrDefault(serviceId, 0L);
+            drained += viewDelta + bookingDelta;
+            batch.add(new Object[]{viewDelta, bookingDelta, serviceId});
+        }
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch)));
+            pendingIncrements.addAndGet(-drained);
+            log.debug("Flushed {} counter increments for {} services", drained, batch.size());
+        } catch (DataAccessException e) {
+            // The batch rolled back as a whole, so every delta goes back for the next attempt
+            viewCounts.restore(views);
+            bookingCounts.restore(bookings);
+            // The restored increments are as old as they were; an increment made since the drain
+            // may have restarted the clock, so keep the older of the two
+            oldestPendingAt.accumulateAndGet(pendingSince,
+                    (current, restored) -> current == 0 || restored == 0 ? Math.max(current, restored)
+                            : Math.min(current, restored));
+            flushFailures.increment();
+            log.warn("Failed to flush counters for {} services, will retry", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private double flushLagSeconds() {
+        long since = oldestPendingAt.get();
+        return since == 0 ? 0 : (System.currentTimeMillis() - since) / 1000.0;
+    }
+}
@@ -1,17 +1,22 @@
 package com.manvanth.servenow.service;
 
 import com.manvanth.servenow.dto.request.ServiceRequest;
+import com.manvanth.servenow.dto.response.AudienceResponse;
+import com.manvanth.servenow.dto.response.CursorPageResponse;
 import com.manvanth.servenow.dto.response.ServiceResponse;
 import com.manvanth.servenow.entity.Category;
 import com.manvanth.servenow.entity.User;
 import com.manvanth.servenow.exception.ResourceNotFoundException;
 import com.manvanth.servenow.exception.UserException;
+import com.manvanth.servenow.monitoring.JfrEvents;
 import com.manvanth.servenow.repository.CategoryRepository;
 import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +36,9 @@ public class ServiceListingService {
     private final ServiceRepository serviceRepository;
     private final CategoryRepository categoryRepository;
     private final UserService userService;
+    private final ServiceCounterService serviceCounterService;
+    private final AudienceService audienceService;
+    private final TrendingService trendingService;
 
     public Page<ServiceResponse> getAllServices(Pageable pageable) {
         return serviceRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable)
@@ -42,6 +50,36 @@ public class ServiceListingService {
                 .map(this::mapToResponse);
     }
 
+    /**
+     * Keyset-paginated listing of active services, newest first, optionally within a category.
+     * Seeks past the cursor on (created_at, id) instead of using OFFSET and never counts.
+     */
+    public CursorPageResponse<ServiceResponse> getServiceFeed(Long categoryId, String cursor, int size) {
+        Pageable limit = CursorCodec.limit(size);
+        Slice<com.manvanth.servenow.entity.Service> slice;
+        if (cursor == null) {
+            slice = categoryId == null
+                    ? serviceRepository.findActiveFeed(limit)
+                    : serviceRepository.findCategoryFeed(categoryId, limit);
+        } else {
+            String[] key = CursorCodec.decode(cursor, 2);
+            LocalDateTime createdAt = CursorCodec.parse(key[0], LocalDateTime::parse);
+            Long id = CursorCodec.parse(key[1], Long::valueOf);
+            slice = categoryId == null
+                    ? serviceRepository.findActiveFeedAfter(createdAt, id, limit)
+                    : serviceRepository.findCategoryFeedAfter(categoryId, createdAt, id, limit);
+        }
+
+        List<com.manvanth.servenow.entity.Service> services = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !services.isEmpty()) {
+            com.manvanth.servenow.entity.Service last = services.get(services.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        List<ServiceResponse> items = services.stream().map(this::mapToResponse).toList();
+        return new CursorPageResponse<>(items, nextCursor, slice.hasNext(), null);
+    }
+
     public List<ServiceResponse> getServicesByProvider(Long providerId) {
         return serviceRepository.findByProviderIdAndIsActiveTrueOrderByCreatedAtDesc(providerId)
                 .stream()
@@ -50,8 +88,14 @@ public class ServiceListingService {
     }
 
     public Page<ServiceResponse> searchServices(String searchTerm, Pageable pageable) {
-        return serviceRepository.searchServices(searchTerm, pageable)
+        JfrEvents.Search event = new JfrEvents.Search();
+        event.begin();
+        Page<ServiceResponse> results = serviceRepository.searchServices(searchTerm, pageable)
                 .map(this::mapToResponse);
+        event.termLength = searchTerm.length();
+        event.hits = results.getTotalElements();
+        event.commit();
+        return results;
     }
 
     public List<ServiceResponse> getFeaturedServices() {
@@ -61,15 +105,15 @@ public class ServiceListingService {
                 .collect(Collectors.toList());
     }
 
-    public ServiceResponse getServiceById(Long id) {
+    public ServiceResponse getServiceById(Long id, String viewerKey) {
         com.manvanth.servenow.entity.Service service = findServiceByIdOrThrow(id);
-        return mapToResponse(service);
+        return mapToDetailResponse(service, viewerKey);
     }
 
-    public ServiceResponse getServiceBySlug(String slug) {
+    public ServiceResponse getServiceBySlug(String slug, String viewerKey) {
         com.manvanth.servenow.entity.Service service = serviceRepository.findBySlugAndIsActiveTrue(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Service", "slug", slug));
-        return mapToResponse(service);
+        return mapToDetailResponse(service, viewerKey);
     }
 
     public ServiceResponse createService(Long providerId, ServiceRequest request) {
@@ -150,6 +194,21 @@ public class ServiceListingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Service", "id", serviceId));
     }
 
+    /**
+     * Detail view: records the view and adds approximate unique viewer/customer counts
+     */
+    private ServiceResponse mapToDetailResponse(com.manvanth.servenow.entity.Service service, String viewerKey) {
+        serviceCounterService.recordView(service.getId());
+        audienceService.recordViewer(service.getId(), service.getProvider().getId(), viewerKey);
+        trendingService.recordView(service.getId(), service.getCategory().getId());
+
+        ServiceResponse response = mapToResponse(service);
+        AudienceResponse audience = audienceService.getServiceAudience(service.getId());
+        response.setUniqueViewers(audience.getUniqueViewers());
+        response.setUniqueCustomers(audience.getUniqueCustomers());
+        return response;
+    }
+
     private ServiceResponse mapToResponse(com.manvanth.servenow.entity.Service service) {
         ServiceResponse response = new ServiceResponse();
         response.setId(service.getId());
@@ -163,6 +222,8 @@ public class ServiceListingService {
         response.setIsAvailable(service.getIsAvailable());
         response.setAverageRating(service.getAverageRating());
         response.setTotalReviews(service.getTotalReviews());
+        response.setTotalBookings(service.getTotalBookings());
+        response.setViewCount(service.getViewCount());
         response.setCategoryName(service.getCategory().getName());
         response.setProviderName(service.getProvider().getFullName());
         response.setCreatedAt(service.getCreatedAt());
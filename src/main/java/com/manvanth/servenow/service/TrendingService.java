@@ -0,0 +1,322 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.TrendingCategoryResponse;
+import com.manvanth.servenow.dto.response.TrendingServiceResponse;
+import com.manvanth.servenow.entity.Category;
+import com.manvanth.servenow.entity.TrendingScore;
+import com.manvanth.servenow.repository.CategoryRepository;
+import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.repository.TrendingScoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for trending services and categories.
+ * Every view or booking adds weight * 2^((t - epoch) / halfLife) to the subject's
+ * score, kept as its log2 so it never overflows; the current score is that value
+ * decayed back to now, and ranking by the stored log never changes with time.
+ * Scores are doubles held as raw bits in AtomicLongs and updated by CAS, so event
+ * recording takes no locks. A periodic job snapshots the top N per category for
+ * constant-time reads and checkpoints all scores to the database for restarts.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingService {
+
+    // Fixed reference point for the forward-decay exponent (2024-01-01T00:00:00Z)
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final long EMPTY = Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY);
+
+    private final ServiceRepository serviceRepository;
+    private final CategoryRepository categoryRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, AtomicLong> serviceScores = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> categoryScores = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> serviceCategories = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Value("${trending.half-life-hours:24}")
+    private double halfLifeHours;
+
+    @Value("${trending.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${trending.booking-weight:10.0}")
+    private double bookingWeight;
+
+    @Value("${trending.top-n:20}")
+    private int topN;
+
+    @Value("${trending.min-score:0.01}")
+    private double minScore;
+
+    public void recordView(Long serviceId, Long categoryId) {
+        record(serviceId, categoryId, viewWeight);
+    }
+
+    public void recordBooking(Long serviceId, Long categoryId) {
+        record(serviceId, categoryId, bookingWeight);
+    }
+
+    private void record(Long serviceId, Long categoryId, double weight) {
+        double logWeight = log2(weight) + decayExponent(System.currentTimeMillis());
+        add(serviceScores, serviceId, logWeight);
+        if (categoryId != null) {
+            serviceCategories.put(serviceId, categoryId);
+            add(categoryScores, categoryId, logWeight);
+        }
+    }
+
+    /**
+     * Current top services of a category, or across all categories when categoryId is null
+     */
+    public List<TrendingServiceResponse> getTrendingServices(Long categoryId, int limit) {
+        Snapshot current = snapshot;
+        List<TrendingServiceResponse> services = categoryId == null
+                ? current.overall()
+                : current.byCategory().getOrDefault(categoryId, List.of());
+        return services.subList(0, Math.min(Math.max(limit, 0), services.size()));
+    }
+
+    public List<TrendingCategoryResponse> getTrendingCategories(int limit) {
+        List<TrendingCategoryResponse> categories = snapshot.categories();
+        return categories.subList(0, Math.min(Math.max(limit, 0), categories.size()));
+    }
+
+    /**
+     * Rebuild the top-N snapshot served by the trending endpoints
+     */
+    @Scheduled(initialDelayString = "${trending.refresh-interval-ms:60000}",
+               fixedDelayString = "${trending.refresh-interval-ms:60000}")
+    public void refresh() {
+        double now = decayExponent(System.currentTimeMillis());
+
+        List<Map.Entry<Long, Double>> ranked = ranked(serviceScores);
+        Map<Long, List<Long>> topByCategory = new HashMap<>();
+        Set<Long> selected = new LinkedHashSet<>();
+        for (Map.Entry<Long, Double> entry : ranked) {
+            Long categoryId = serviceCategories.get(entry.getKey());
+            List<Long> top = topByCategory.computeIfAbsent(categoryId, id -> new ArrayList<>());
+            // The overall top N is always within the per-category top N, so this covers both
+            if (top.size() < topN) {
+                top.add(entry.getKey());
+                selected.add(entry.getKey());
+            }
+        }
+
+        // One query for the display fields of every selected service
+        Map<Long, TrendingServiceResponse> responses = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (com.manvanth.servenow.entity.Service service :
+                    serviceRepository.findActiveWithCategoryAndProviderByIdIn(selected)) {
+                responses.put(service.getId(), toResponse(service, decayedScore(serviceScores, service.getId(), now)));
+            }
+        });
+
+        List<TrendingServiceResponse> overall = ranked.stream()
+                .map(entry -> responses.get(entry.getKey()))
+                .filter(response -> response != null)
+                .limit(topN)
+                .toList();
+        Map<Long, List<TrendingServiceResponse>> byCategory = new HashMap<>();
+        topByCategory.forEach((categoryId, ids) -> {
+            if (categoryId != null) {
+                byCategory.put(categoryId, ids.stream().map(responses::get).filter(r -> r != null).toList());
+            }
+        });
+
+        List<Map.Entry<Long, Double>> rankedCategories = ranked(categoryScores).stream().limit(topN).toList();
+        Map<Long, String> categoryNames = new HashMap<>();
+        for (Category category : categoryRepository.findAllById(rankedCategories.stream().map(Map.Entry::getKey).toList())) {
+            categoryNames.put(category.getId(), category.getName());
+        }
+        List<TrendingCategoryResponse> categories = rankedCategories.stream()
+                .filter(entry -> categoryNames.containsKey(entry.getKey()))
+                .map(entry -> new TrendingCategoryResponse(entry.getKey(), categoryNames.get(entry.getKey()),
+                        round(Math.pow(2, entry.getValue() - now))))
+                .toList();
+
+        snapshot = new Snapshot(overall, byCategory, categories);
+        log.debug("Refreshed trending snapshot: {} services, {} categories", serviceScores.size(), categories.size());
+    }
+
+    /**
+     * Upsert all scores into the stored ones, keeping the higher of the two, and drop
+     * stored scores that have decayed to nothing
+     */
+    @Scheduled(initialDelayString = "${trending.checkpoint-interval-ms:300000}",
+               fixedDelayString = "${trending.checkpoint-interval-ms:300000}")
+    public synchronized void checkpoint() {
+        double now = decayExponent(System.currentTimeMillis());
+        double minLogScore = log2(minScore) + now;
+        prune(serviceScores, minLogScore);
+        prune(categoryScores, minLogScore);
+        serviceCategories.keySet().retainAll(serviceScores.keySet());
+
+        try {
+            int written = transactionTemplate.execute(status -> {
+                Map<ScoreKey, TrendingScore> stored = new HashMap<>();
+                for (TrendingScore row : trendingScoreRepository.findAllForUpdate()) {
+                    stored.put(new ScoreKey(row.getSubjectType(), row.getSubjectId()), row);
+                }
+                List<TrendingScore> inserted = new ArrayList<>();
+                serviceScores.forEach((id, cell) -> upsert(stored, inserted, TrendingScore.SubjectType.SERVICE, id,
+                        serviceCategories.get(id), Double.longBitsToDouble(cell.get())));
+                categoryScores.forEach((id, cell) -> upsert(stored, inserted, TrendingScore.SubjectType.CATEGORY, id,
+                        null, Double.longBitsToDouble(cell.get())));
+                trendingScoreRepository.saveAll(inserted);
+                trendingScoreRepository.deleteAllInBatch(stored.values().stream()
+                        .filter(row -> row.getLogScore() < minLogScore)
+                        .toList());
+                return serviceScores.size() + categoryScores.size();
+            });
+            log.debug("Checkpointed {} trending scores", written);
+        } catch (DataAccessException e) {
+            log.warn("Failed to checkpoint trending scores", e);
+        }
+    }
+
+    /**
+     * Stored scores are absolute (restored state plus events since), so another instance's row
+     * or an earlier checkpoint is merged by max rather than summed, which would count it twice
+     */
+    private static void upsert(Map<ScoreKey, TrendingScore> stored, List<TrendingScore> inserted,
+                               TrendingScore.SubjectType type, Long subjectId, Long categoryId, double logScore) {
+        TrendingScore row = stored.get(new ScoreKey(type, subjectId));
+        if (row == null) {
+            inserted.add(new TrendingScore(type, subjectId, categoryId, logScore));
+            return;
+        }
+        if (logScore > row.getLogScore()) {
+            row.setLogScore(logScore);
+        }
+        if (categoryId != null) {
+            row.setCategoryId(categoryId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            for (TrendingScore row : trendingScoreRepository.findAll()) {
+                if (row.getSubjectType() == TrendingScore.SubjectType.SERVICE) {
+                    add(serviceScores, row.getSubjectId(), row.getLogScore());
+                    if (row.getCategoryId() != null) {
+                        serviceCategories.put(row.getSubjectId(), row.getCategoryId());
+                    }
+                } else {
+                    add(categoryScores, row.getSubjectId(), row.getLogScore());
+                }
+            }
+            log.info("Restored {} trending service scores", serviceScores.size());
+            refresh();
+        } catch (DataAccessException e) {
+            log.warn("Could not restore trending scores, starting empty", e);
+        }
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private double decayExponent(long timeMillis) {
+        return (timeMillis - EPOCH_MILLIS) / (halfLifeHours * 3_600_000d);
+    }
+
+    private static void add(ConcurrentHashMap<Long, AtomicLong> scores, Long key, double logValue) {
+        AtomicLong cell = scores.computeIfAbsent(key, k -> new AtomicLong(EMPTY));
+        long previous;
+        long updated;
+        do {
+            previous = cell.get();
+            updated = Double.doubleToRawLongBits(logSum(Double.longBitsToDouble(previous), logValue));
+        } while (!cell.compareAndSet(previous, updated));
+    }
+
+    /**
+     * log2(2^a + 2^b) without leaving log space
+     */
+    private static double logSum(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        double high = Math.max(a, b);
+        double low = Math.min(a, b);
+        return high + log2(1 + Math.pow(2, low - high));
+    }
+
+    private static void prune(ConcurrentHashMap<Long, AtomicLong> scores, double minLogScore) {
+        // An event racing with the removal of a fully decayed entry may be dropped; it carries negligible weight
+        scores.forEach((id, cell) -> {
+            if (Double.longBitsToDouble(cell.get()) < minLogScore) {
+                scores.remove(id, cell);
+            }
+        });
+    }
+
+    private static List<Map.Entry<Long, Double>> ranked(ConcurrentHashMap<Long, AtomicLong> scores) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.size());
+        scores.forEach((id, cell) -> entries.add(Map.entry(id, Double.longBitsToDouble(cell.get()))));
+        entries.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+        return entries;
+    }
+
+    private static double decayedScore(ConcurrentHashMap<Long, AtomicLong> scores, Long id, double now) {
+        AtomicLong cell = scores.get(id);
+        return cell == null ? 0 : round(Math.pow(2, Double.longBitsToDouble(cell.get()) - now));
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private static TrendingServiceResponse toResponse(com.manvanth.servenow.entity.Service service, double score) {
+        TrendingServiceResponse response = new TrendingServiceResponse();
+        response.setServiceId(service.getId());
+        response.setTitle(service.getTitle());
+        response.setCategoryId(service.getCategory().getId());
+        response.setCategoryName(service.getCategory().getName());
+        response.setProviderName(service.getProvider().getFullName());
+        response.setPriceDisplay(service.getPriceDisplay());
+        response.setAverageRating(service.getAverageRating());
+        response.setScore(score);
+        return response;
+    }
+
+    private record ScoreKey(TrendingScore.SubjectType subjectType, Long subjectId) {}
+
+    private record Snapshot(List<TrendingServiceResponse> overall,
+                            Map<Long, List<TrendingServiceResponse>> byCategory,
+                            List<TrendingCategoryResponse> categories) {
+        private static final Snapshot EMPTY = new Snapshot(List.of(), Map.of(), List.of());
+    }
+}
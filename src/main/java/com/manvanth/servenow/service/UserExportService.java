@@ -0,0 +1,116 @@
+package com.manvanth.servenow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manvanth.servenow.util.CsvWriter;
+import com.manvanth.servenow.util.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service for streaming admin user exports.
+ * Reads users through a forward-only JDBC cursor and writes each row to the response
+ * as it arrives, so no entities, persistence context or result list are built up.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String[] COLUMNS = {
+            "id", "firstName", "lastName", "email", "phoneNumber", "city", "state", "country",
+            "isEmailVerified", "isPhoneVerified", "enabled", "isActive", "roles", "createdAt"
+    };
+
+    private static final String EXPORT_SQL = "SELECT u.id, u.first_name, u.last_name, u.email, u.phone_number, " +
+            "u.city, u.state, u.country, u.is_email_verified, u.is_phone_verified, u.enabled, u.is_active, " +
+            "(SELECT GROUP_CONCAT(r.name ORDER BY r.name SEPARATOR ' ') FROM user_roles ur " +
+            "JOIN roles r ON r.id = ur.role_id WHERE ur.user_id = u.id) AS roles, u.created_at " +
+            "FROM users u ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Write all users, optionally only those holding a role, in id order
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(String roleName, ExportFormat format, OutputStream out) throws IOException {
+        String sql = roleName == null
+                ? EXPORT_SQL + "ORDER BY u.id"
+                : EXPORT_SQL + "WHERE EXISTS (SELECT 1 FROM user_roles ur JOIN roles r ON r.id = ur.role_id " +
+                  "WHERE ur.user_id = u.id AND r.name = ?) ORDER BY u.id";
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        CsvWriter csv = new CsvWriter(writer);
+        if (format == ExportFormat.CSV) {
+            csv.writeRow((Object[]) COLUMNS);
+        }
+
+        AtomicLong rows = new AtomicLong();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                if (roleName != null) {
+                    statement.setString(1, roleName);
+                }
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    Object[] values = readRow(rs);
+                    if (format == ExportFormat.CSV) {
+                        csv.writeRow(values);
+                    } else {
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (int i = 0; i < COLUMNS.length; i++) {
+                            row.put(COLUMNS[i], values[i]);
+                        }
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    rows.incrementAndGet();
+                } catch (IOException e) {
+                    // Client went away; abort the query instead of reading the rest of the table
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("Exported {} users{} as {}", rows.get(), roleName != null ? " with role " + roleName : "", format);
+    }
+
+    private static Object[] readRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new Object[]{
+                rs.getLong("id"), rs.getString("first_name"), rs.getString("last_name"), rs.getString("email"),
+                rs.getString("phone_number"), rs.getString("city"), rs.getString("state"), rs.getString("country"),
+                rs.getObject("is_email_verified", Boolean.class), rs.getObject("is_phone_verified", Boolean.class),
+                rs.getObject("enabled", Boolean.class), rs.getObject("is_active", Boolean.class),
+                rs.getString("roles"), createdAt != null ? createdAt.toLocalDateTime() : null
+        };
+    }
+}
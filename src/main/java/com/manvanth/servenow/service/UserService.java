@@ -3,6 +3,7 @@ package com.manvanth.servenow.service;
 import com.manvanth.servenow.dto.request.ChangePasswordRequest;
 import com.manvanth.servenow.dto.request.RegisterRequest;
 import com.manvanth.servenow.dto.request.UpdateUserRequest;
+import com.manvanth.servenow.dto.response.ProviderSummaryResponse;
 import com.manvanth.servenow.dto.response.UserResponse;
 import com.manvanth.servenow.entity.User;
 import com.manvanth.servenow.exception.ResourceNotFoundException;
@@ -14,7 +15,9 @@ import com.manvanth.servenow.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -25,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for user management operations
@@ -36,6 +40,10 @@ import java.util.Optional;
 @Transactional
 public class UserService implements UserDetailsService {
 
+    /** Provider directory columns a client may sort by */
+    private static final Set<String> DIRECTORY_SORT_PROPERTIES =
+            Set.of("firstName", "lastName", "city", "state", "createdAt", "totalReviews");
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
@@ -209,16 +217,6 @@ public class UserService implements UserDetailsService {
                 .map(userMapper::toUserResponse);
     }
 
-    /**
-     * Get users by role
-     */
-    @Transactional(readOnly = true)
-    public List<UserResponse> getUsersByRole(String roleName) {
-        return userRepository.findByRoleName(roleName).stream()
-                .map(userMapper::toUserResponse)
-                .toList();
-    }
-
     /**
      * Get users by role with pagination
      */
@@ -229,23 +227,21 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * Get all service providers
-     */
-    @Transactional(readOnly = true)
-    public List<UserResponse> getAllProviders() {
-        return userRepository.findAllProviders().stream()
-                .map(userMapper::toUserResponse)
-                .toList();
-    }
-
-    /**
-     * Get all customers
+     * Get a page of the public provider directory.
+     * The id is always the last sort key, so rows tied on the requested sort (or all rows when
+     * unsorted) keep a stable order and pages neither repeat nor skip providers.
+     * Only the directory's own columns can be sorted on; the client's sort goes straight into the query.
      */
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllCustomers() {
-        return userRepository.findAllCustomers().stream()
-                .map(userMapper::toUserResponse)
-                .toList();
+    public Page<ProviderSummaryResponse> getProviderDirectory(String city, Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!DIRECTORY_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new ValidationException("Providers can only be sorted by " + DIRECTORY_SORT_PROPERTIES);
+            }
+        }
+        Pageable stable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by("id")));
+        return userRepository.findProviderDirectory(city, stable);
     }
 
     /**
@@ -0,0 +1,90 @@
+package com.manvanth.servenow.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory write-behind counter keyed by entity id.
+ * Increments go to a LongAdder per key. drain() takes the accumulated deltas
+ * without losing concurrent increments: it reads each sum and subtracts exactly
+ * that amount, so anything added meanwhile stays for the next drain.
+ * Idle slots are evicted by retiring them: drain() takes their last balance under the
+ * slot's lock, and an increment that finds its slot retired moves whatever that final
+ * drain missed into a live slot. Only that rare path locks; increments never do.
+ */
+public class CounterBuffer<K> {
+
+    /** Drains a key may stay at zero before its adder is evicted */
+    private static final int IDLE_DRAINS_BEFORE_EVICT = 3;
+
+    private final ConcurrentHashMap<K, Slot> slots = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        while (delta != 0) {
+            Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+            slot.adder.add(delta);
+            if (!slot.retired) {
+                return;
+            }
+            // Evicted meanwhile: retry with what the final drain did not see (zero if it saw everything)
+            delta = slot.takeResidue();
+        }
+    }
+
+    /**
+     * Take all non-zero pending deltas
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> deltas = new HashMap<>();
+        slots.forEach((key, slot) -> {
+            long pending = slot.adder.sum();
+            if (pending != 0) {
+                slot.adder.add(-pending);
+                slot.idleDrains = 0;
+                deltas.merge(key, pending, Long::sum);
+            } else if (++slot.idleDrains >= IDLE_DRAINS_BEFORE_EVICT && slots.remove(key, slot)) {
+                // Increments made between the read above and the retirement are carried over
+                long late = slot.retire();
+                if (late != 0) {
+                    deltas.merge(key, late, Long::sum);
+                }
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * Put deltas back, e.g. after a failed flush
+     */
+    public void restore(Map<K, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private static final class Slot {
+        private final LongAdder adder = new LongAdder();
+        // Only touched by the (single) draining thread
+        private int idleDrains;
+        // Set under the lock; an increment that still sees false was counted by retire()
+        private volatile boolean retired;
+
+        synchronized long retire() {
+            retired = true;
+            return takeResidue();
+        }
+
+        /**
+         * Take the whole balance; once retired, that is only increments retire() did not see
+         */
+        synchronized long takeResidue() {
+            long residue = adder.sum();
+            adder.add(-residue);
+            return residue;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.manvanth.servenow.util;
+
+import com.manvanth.servenow.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset pagination positions as opaque URL-safe cursors.
+ * A cursor is the sort key values of the last row returned (e.g. created_at and id),
+ * joined and Base64 encoded so clients treat it as a token rather than building it.
+ */
+public final class CursorCodec {
+
+    /**
+     * Largest page a keyset feed returns, whatever size the client asks for
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Row limit for a keyset query, with the requested size clamped to 1..MAX_PAGE_SIZE
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, Math.clamp(size, 1, MAX_PAGE_SIZE));
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Split a cursor back into its values, rejecting anything that was not produced by encode
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = joined.split("\\|", -1);
+            if (values.length != expectedValues) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Parse one decoded cursor value, reporting malformed input as an invalid cursor
+     */
+    public static <T> T parse(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.manvanth.servenow.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog distinct-count sketch with 2^11 registers of 6 bits each, packed
+ * into 1536 bytes (standard error about 2.3%). Sketches merge by taking the
+ * register-wise maximum, which is idempotent, so the same data can be merged
+ * more than once and monthly sketches can be combined into any window.
+ * Not thread-safe; callers must serialize access to an instance.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 11;
+    public static final int REGISTERS = 1 << PRECISION;
+    public static final int SIZE_BYTES = REGISTERS * 6 / 8;
+
+    private static final int REGISTER_MASK = 0x3F;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[SIZE_BYTES];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE_BYTES) {
+            throw new IllegalArgumentException("HyperLogLog sketch must be " + SIZE_BYTES + " bytes");
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+
+    public void offer(String value) {
+        offerHash(hash(value));
+    }
+
+    public void offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // Rank of the first 1-bit in the remaining bits; the sentinel bit caps it at 64 - PRECISION + 1
+        long remaining = (hash << PRECISION) | (1L << (PRECISION - 1));
+        int rank = Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > get(index)) {
+            set(index, rank);
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            int theirs = other.get(i);
+            if (theirs > get(i)) {
+                set(i, theirs);
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (int i = 0; i < REGISTERS; i++) {
+            int value = get(i);
+            sum += 1.0 / (1L << value);
+            if (value == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // Linear counting is more accurate while many registers are still empty
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+        for (byte b : registers) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int get(int index) {
+        int bit = index * 6;
+        int offset = bit >>> 3;
+        int shift = bit & 7;
+        int window = (registers[offset] & 0xFF)
+                | (offset + 1 < SIZE_BYTES ? (registers[offset + 1] & 0xFF) << 8 : 0);
+        return (window >>> shift) & REGISTER_MASK;
+    }
+
+    private void set(int index, int value) {
+        int bit = index * 6;
+        int offset = bit >>> 3;
+        int shift = bit & 7;
+        int window = (registers[offset] & 0xFF)
+                | (offset + 1 < SIZE_BYTES ? (registers[offset + 1] & 0xFF) << 8 : 0);
+        window = (window & ~(REGISTER_MASK << shift)) | ((value & REGISTER_MASK) << shift);
+        registers[offset] = (byte) window;
+        if (offset + 1 < SIZE_BYTES) {
+            registers[offset + 1] = (byte) (window >>> 8);
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer to spread the bits
+     */
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53e2f4dL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(registers);
+    }
+}
@@ -0,0 +1,249 @@
+package com.manvanth.servenow.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary log of captured request shapes.
+ * A file starts with a magic number, a version and its start time; each entry then
+ * holds a zigzag varint time offset from the previous entry, the method, path template,
+ * path variables, query parameters, caller role, status and duration. Strings are
+ * written once and referenced by varint id afterwards, so a repeated template or search
+ * term costs one or two bytes. Every file has its own dictionary and can be read alone.
+ */
+public final class TrafficLog {
+
+    public static final String FILE_SUFFIX = ".sntl";
+
+    private static final int MAGIC = 0x534E544C; // "SNTL"
+    private static final int VERSION = 1;
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    private static final int MAX_STRING_BYTES = 1024;
+
+    private TrafficLog() {
+    }
+
+    /**
+     * One captured request; values that were not kept are empty strings
+     */
+    public record Entry(long timestampMillis, String method, String pathTemplate, Map<String, String> pathVariables,
+                        Map<String, String> params, String role, int status, long durationMicros) {
+
+        /**
+         * The request path with variables filled back into the template
+         */
+        public String path() {
+            String path = pathTemplate;
+            for (Map.Entry<String, String> variable : pathVariables.entrySet()) {
+                path = path.replace("{" + variable.getKey() + "}", variable.getValue());
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Appends entries to a stream; not thread-safe
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private long previousTimestamp;
+        private long bytesWritten;
+
+        public Writer(OutputStream stream, long startMillis) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(startMillis);
+            this.previousTimestamp = startMillis;
+        }
+
+        public void write(Entry entry) throws IOException {
+            int before = out.size();
+            writeVarLong(zigzag(entry.timestampMillis() - previousTimestamp));
+            previousTimestamp = entry.timestampMillis();
+            writeString(entry.method());
+            writeString(entry.pathTemplate());
+            writeMap(entry.pathVariables());
+            writeMap(entry.params());
+            writeString(entry.role());
+            writeVarLong(entry.status());
+            writeVarLong(entry.durationMicros());
+            // DataOutputStream's counter saturates at Integer.MAX_VALUE, so track the total separately
+            bytesWritten += out.size() - before;
+        }
+
+        public long bytesWritten() {
+            return bytesWritten;
+        }
+
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeMap(Map<String, String> values) throws IOException {
+            writeVarLong(values.size());
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                writeString(value.getKey());
+                writeString(value.getValue());
+            }
+        }
+
+        /**
+         * Id 0 is an inline string that is not remembered; new strings take the next id while the dictionary has room
+         */
+        private void writeString(String value) throws IOException {
+            Integer id = dictionary.get(value);
+            if (id != null) {
+                writeVarLong(id);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_STRING_BYTES) {
+                // Cut before a UTF-8 continuation byte so the kept prefix still decodes cleanly
+                int length = MAX_STRING_BYTES;
+                while ((bytes[length] & 0xC0) == 0x80) {
+                    length--;
+                }
+                bytes = Arrays.copyOf(bytes, length);
+            }
+            if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+                int next = dictionary.size() + 1;
+                dictionary.put(value, next);
+                writeVarLong(next);
+            } else {
+                writeVarLong(0);
+            }
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Reads entries back in the order they were written
+     */
+    public static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final List<String> dictionary = new ArrayList<>();
+        private final long startMillis;
+        private long previousTimestamp;
+
+        public Reader(InputStream stream) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(stream, 64 * 1024));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a traffic log");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported traffic log version " + version);
+            }
+            this.startMillis = in.readLong();
+            this.previousTimestamp = startMillis;
+        }
+
+        public long startMillis() {
+            return startMillis;
+        }
+
+        /**
+         * The next entry, or null at the end of the log; a truncated last entry is treated as the end
+         */
+        public Entry read() throws IOException {
+            int first = in.read();
+            if (first < 0) {
+                return null;
+            }
+            try {
+                long timestamp = previousTimestamp + unzigzag(readVarLong(first));
+                previousTimestamp = timestamp;
+                String method = readString();
+                String pathTemplate = readString();
+                Map<String, String> pathVariables = readMap();
+                Map<String, String> params = readMap();
+                String role = readString();
+                int status = (int) readVarLong(in.readUnsignedByte());
+                long durationMicros = readVarLong(in.readUnsignedByte());
+                return new Entry(timestamp, method, pathTemplate, pathVariables, params, role, status, durationMicros);
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private Map<String, String> readMap() throws IOException {
+            int size = (int) readVarLong(in.readUnsignedByte());
+            Map<String, String> values = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                values.put(readString(), readString());
+            }
+            return values;
+        }
+
+        private String readString() throws IOException {
+            int id = (int) readVarLong(in.readUnsignedByte());
+            if (id > 0 && id <= dictionary.size()) {
+                return dictionary.get(id - 1);
+            }
+            byte[] bytes = new byte[(int) readVarLong(in.readUnsignedByte())];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            if (id > 0) {
+                dictionary.add(value);
+            }
+            return value;
+        }
+
+        private long readVarLong(int firstByte) throws IOException {
+            long value = firstByte & 0x7F;
+            int shift = 7;
+            int current = firstByte;
+            while ((current & 0x80) != 0) {
+                current = in.readUnsignedByte();
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            }
+            return value;
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
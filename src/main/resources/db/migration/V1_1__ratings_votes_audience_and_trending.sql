@@ -0,0 +1,133 @@
+-- Schema added since the last release: rating breakdowns on services and providers, review votes,
+-- audience sketches, trending scores and the keyset feed indexes. Runs on new databases and on
+-- release databases baselined at V1.
+
+-- New review status for reviews held for moderation
+ALTER TABLE reviews
+    MODIFY status ENUM('DRAFT','PENDING','PUBLISHED','HIDDEN','FLAGGED','REMOVED');
+
+-- Rating totals and breakdowns (RatingBreakdown); the average is computed from rating_sum/total_reviews
+ALTER TABLE users
+    ADD COLUMN rating_sum DECIMAL(12,1),
+    ADD COLUMN total_reviews INTEGER,
+    ADD COLUMN star1_count INTEGER,
+    ADD COLUMN star2_count INTEGER,
+    ADD COLUMN star3_count INTEGER,
+    ADD COLUMN star4_count INTEGER,
+    ADD COLUMN star5_count INTEGER,
+    ADD COLUMN quality_sum DECIMAL(12,1),
+    ADD COLUMN quality_count INTEGER,
+    ADD COLUMN communication_sum DECIMAL(12,1),
+    ADD COLUMN communication_count INTEGER,
+    ADD COLUMN punctuality_sum DECIMAL(12,1),
+    ADD COLUMN punctuality_count INTEGER,
+    ADD COLUMN value_sum DECIMAL(12,1),
+    ADD COLUMN value_count INTEGER;
+
+ALTER TABLE services
+    DROP COLUMN average_rating,
+    ADD COLUMN rating_sum DECIMAL(12,1),
+    ADD COLUMN star1_count INTEGER,
+    ADD COLUMN star2_count INTEGER,
+    ADD COLUMN star3_count INTEGER,
+    ADD COLUMN star4_count INTEGER,
+    ADD COLUMN star5_count INTEGER,
+    ADD COLUMN quality_sum DECIMAL(12,1),
+    ADD COLUMN quality_count INTEGER,
+    ADD COLUMN communication_sum DECIMAL(12,1),
+    ADD COLUMN communication_count INTEGER,
+    ADD COLUMN punctuality_sum DECIMAL(12,1),
+    ADD COLUMN punctuality_count INTEGER,
+    ADD COLUMN value_sum DECIMAL(12,1),
+    ADD COLUMN value_count INTEGER;
+
+-- Fill the new columns from published reviews, as RatingAggregationService.reconcile does
+UPDATE services s LEFT JOIN (
+    SELECT r.service_id AS subject_id, SUM(r.overall_rating) AS rating_sum, COUNT(*) AS total,
+           SUM(CASE WHEN ROUND(r.overall_rating) <= 1 THEN 1 ELSE 0 END) AS s1,
+           SUM(CASE WHEN ROUND(r.overall_rating) = 2 THEN 1 ELSE 0 END) AS s2,
+           SUM(CASE WHEN ROUND(r.overall_rating) = 3 THEN 1 ELSE 0 END) AS s3,
+           SUM(CASE WHEN ROUND(r.overall_rating) = 4 THEN 1 ELSE 0 END) AS s4,
+           SUM(CASE WHEN ROUND(r.overall_rating) >= 5 THEN 1 ELSE 0 END) AS s5,
+           SUM(r.quality_rating) AS q_sum, COUNT(r.quality_rating) AS q_count,
+           SUM(r.communication_rating) AS c_sum, COUNT(r.communication_rating) AS c_count,
+           SUM(r.punctuality_rating) AS p_sum, COUNT(r.punctuality_rating) AS p_count,
+           SUM(r.value_rating) AS v_sum, COUNT(r.value_rating) AS v_count
+    FROM reviews r
+    WHERE r.status = 'PUBLISHED' GROUP BY r.service_id
+) agg ON agg.subject_id = s.id SET
+    s.rating_sum = COALESCE(agg.rating_sum, 0), s.total_reviews = COALESCE(agg.total, 0),
+    s.star1_count = COALESCE(agg.s1, 0), s.star2_count = COALESCE(agg.s2, 0),
+    s.star3_count = COALESCE(agg.s3, 0), s.star4_count = COALESCE(agg.s4, 0),
+    s.star5_count = COALESCE(agg.s5, 0), s.quality_sum = COALESCE(agg.q_sum, 0),
+    s.quality_count = COALESCE(agg.q_count, 0), s.communication_sum = COALESCE(agg.c_sum, 0),
+    s.communication_count = COALESCE(agg.c_count, 0), s.punctuality_sum = COALESCE(agg.p_sum, 0),
+    s.punctuality_count = COALESCE(agg.p_count, 0), s.value_sum = COALESCE(agg.v_sum, 0),
+    s.value_count = COALESCE(agg.v_count, 0);
+
+UPDATE users u JOIN (
+    SELECT s.provider_id AS subject_id, SUM(s.rating_sum) AS rating_sum, SUM(s.total_reviews) AS total,
+           SUM(s.star1_count) AS s1, SUM(s.star2_count) AS s2, SUM(s.star3_count) AS s3,
+           SUM(s.star4_count) AS s4, SUM(s.star5_count) AS s5,
+           SUM(s.quality_sum) AS q_sum, SUM(s.quality_count) AS q_count,
+           SUM(s.communication_sum) AS c_sum, SUM(s.communication_count) AS c_count,
+           SUM(s.punctuality_sum) AS p_sum, SUM(s.punctuality_count) AS p_count,
+           SUM(s.value_sum) AS v_sum, SUM(s.value_count) AS v_count
+    FROM services s GROUP BY s.provider_id
+) agg ON agg.subject_id = u.id SET
+    u.rating_sum = agg.rating_sum, u.total_reviews = agg.total,
+    u.star1_count = agg.s1, u.star2_count = agg.s2, u.star3_count = agg.s3,
+    u.star4_count = agg.s4, u.star5_count = agg.s5,
+    u.quality_sum = agg.q_sum, u.quality_count = agg.q_count,
+    u.communication_sum = agg.c_sum, u.communication_count = agg.c_count,
+    u.punctuality_sum = agg.p_sum, u.punctuality_count = agg.p_count,
+    u.value_sum = agg.v_sum, u.value_count = agg.v_count;
+
+-- Keyset feeds ordered by (created_at, id)
+CREATE INDEX idx_services_active_created ON services (is_active, created_at, id);
+CREATE INDEX idx_services_category_active_created ON services (category_id, is_active, created_at, id);
+CREATE INDEX idx_bookings_customer_created ON bookings (customer_id, created_at, id);
+CREATE INDEX idx_bookings_provider_created ON bookings (provider_id, created_at, id);
+CREATE INDEX idx_reviews_service_status_created ON reviews (service_id, status, created_at, id);
+CREATE INDEX idx_reviews_service_status_helpful ON reviews (service_id, status, helpful_count, id);
+CREATE INDEX idx_reviews_status_created ON reviews (status, created_at);
+
+CREATE TABLE review_votes (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    review_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    helpful BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_review_votes_review_user UNIQUE (review_id, user_id),
+    CONSTRAINT fk_review_votes_review FOREIGN KEY (review_id) REFERENCES reviews (id),
+    CONSTRAINT fk_review_votes_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE audience_sketches (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    subject_type ENUM('SERVICE','PROVIDER') NOT NULL,
+    subject_id BIGINT NOT NULL,
+    metric ENUM('VIEWERS','CUSTOMERS') NOT NULL,
+    period_key VARCHAR(7) NOT NULL,
+    registers VARBINARY(1536) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_audience_sketches_subject UNIQUE (subject_type, subject_id, metric, period_key)
+) ENGINE=InnoDB;
+
+CREATE TABLE trending_scores (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    subject_type ENUM('SERVICE','CATEGORY') NOT NULL,
+    subject_id BIGINT NOT NULL,
+    category_id BIGINT,
+    log_score DOUBLE NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,223 @@
+-- ServeNow baseline schema
+-- The schema of the last release, as Hibernate generated it under ddl-auto: update (IDENTITY ids).
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and only run the later migrations, which add everything since. Constraint names differ from
+-- the generated ones on such databases; no migration refers to them by name.
+-- Entity changes now need a new migration; Hibernate validates the schema at startup.
+
+CREATE TABLE roles (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(200),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    first_name VARCHAR(50) NOT NULL,
+    last_name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(20),
+    address VARCHAR(500),
+    city VARCHAR(100),
+    state VARCHAR(100),
+    postal_code VARCHAR(20),
+    country VARCHAR(100),
+    latitude DOUBLE,
+    longitude DOUBLE,
+    profile_image_url VARCHAR(255),
+    is_email_verified BIT,
+    is_phone_verified BIT,
+    account_non_expired BIT,
+    account_non_locked BIT,
+    credentials_non_expired BIT,
+    enabled BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE categories (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    icon_url VARCHAR(255),
+    image_url VARCHAR(255),
+    slug VARCHAR(100),
+    sort_order INTEGER,
+    is_featured BIT,
+    parent_category_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_slug UNIQUE (slug),
+    CONSTRAINT fk_categories_parent FOREIGN KEY (parent_category_id) REFERENCES categories (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE services (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(2000) NOT NULL,
+    base_price DECIMAL(10,2) NOT NULL,
+    pricing_type ENUM('FIXED','HOURLY','NEGOTIABLE','QUOTE_BASED','PACKAGE') NOT NULL,
+    min_price DECIMAL(10,2),
+    max_price DECIMAL(10,2),
+    price_unit VARCHAR(50),
+    estimated_duration_minutes INTEGER,
+    service_area VARCHAR(500),
+    max_distance_km DOUBLE,
+    is_available BIT,
+    is_featured BIT,
+    requires_quote BIT,
+    slug VARCHAR(200),
+    meta_title VARCHAR(100),
+    meta_description VARCHAR(300),
+    average_rating DECIMAL(3,2),
+    total_reviews INTEGER,
+    total_bookings INTEGER,
+    view_count INTEGER,
+    provider_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_services_slug UNIQUE (slug),
+    CONSTRAINT fk_services_provider FOREIGN KEY (provider_id) REFERENCES users (id),
+    CONSTRAINT fk_services_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE service_images (
+    service_id BIGINT NOT NULL,
+    image_url VARCHAR(255),
+    CONSTRAINT fk_service_images_service FOREIGN KEY (service_id) REFERENCES services (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE service_tags (
+    service_id BIGINT NOT NULL,
+    tag VARCHAR(255),
+    CONSTRAINT fk_service_tags_service FOREIGN KEY (service_id) REFERENCES services (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE bookings (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    service_id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    provider_id BIGINT NOT NULL,
+    status ENUM('REQUESTED','ACCEPTED','REJECTED','CONFIRMED','IN_PROGRESS','COMPLETED','CANCELLED','DISPUTE') NOT NULL,
+    scheduled_date_time DATETIME(6) NOT NULL,
+    estimated_duration_minutes INTEGER,
+    actual_start_time DATETIME(6),
+    actual_end_time DATETIME(6),
+    quoted_price DECIMAL(10,2),
+    final_price DECIMAL(10,2),
+    currency VARCHAR(3),
+    service_address VARCHAR(500),
+    service_latitude DOUBLE,
+    service_longitude DOUBLE,
+    customer_notes VARCHAR(1000),
+    provider_notes VARCHAR(1000),
+    internal_notes VARCHAR(1000),
+    requested_at DATETIME(6),
+    accepted_at DATETIME(6),
+    rejected_at DATETIME(6),
+    started_at DATETIME(6),
+    completed_at DATETIME(6),
+    cancelled_at DATETIME(6),
+    cancellation_reason VARCHAR(500),
+    cancelled_by ENUM('CUSTOMER','PROVIDER','ADMIN','SYSTEM'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT fk_bookings_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE payments (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    booking_id BIGINT NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    status ENUM('PENDING','AUTHORIZED','CAPTURED','COMPLETED','FAILED','CANCELLED','REFUNDED','PARTIALLY_REFUNDED','DISPUTED') NOT NULL,
+    payment_method ENUM('CREDIT_CARD','DEBIT_CARD','BANK_TRANSFER','DIGITAL_WALLET','CASH','CHECK') NOT NULL,
+    payment_gateway ENUM('STRIPE','PAYPAL','SQUARE','RAZORPAY','INTERNAL'),
+    gateway_transaction_id VARCHAR(255),
+    gateway_payment_intent_id VARCHAR(255),
+    gateway_customer_id VARCHAR(255),
+    processing_fee DECIMAL(10,2),
+    net_amount DECIMAL(10,2),
+    platform_fee DECIMAL(10,2),
+    provider_amount DECIMAL(10,2),
+    card_last_four VARCHAR(4),
+    card_brand VARCHAR(20),
+    card_exp_month INTEGER,
+    card_exp_year INTEGER,
+    authorized_at DATETIME(6),
+    captured_at DATETIME(6),
+    failed_at DATETIME(6),
+    refunded_at DATETIME(6),
+    refund_amount DECIMAL(10,2),
+    refund_reason VARCHAR(500),
+    gateway_refund_id VARCHAR(255),
+    failure_code VARCHAR(50),
+    failure_message VARCHAR(500),
+    description VARCHAR(1000),
+    receipt_url VARCHAR(255),
+    receipt_email VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payments_booking UNIQUE (booking_id),
+    CONSTRAINT uk_payments_gateway_transaction UNIQUE (gateway_transaction_id),
+    CONSTRAINT fk_payments_booking FOREIGN KEY (booking_id) REFERENCES bookings (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    is_active BIT,
+    customer_id BIGINT NOT NULL,
+    service_id BIGINT NOT NULL,
+    booking_id BIGINT NOT NULL,
+    overall_rating DECIMAL(2,1) NOT NULL,
+    quality_rating DECIMAL(2,1),
+    communication_rating DECIMAL(2,1),
+    punctuality_rating DECIMAL(2,1),
+    value_rating DECIMAL(2,1),
+    comment VARCHAR(1000),
+    title VARCHAR(500),
+    is_verified BIT,
+    is_featured BIT,
+    is_public BIT,
+    status ENUM('DRAFT','PUBLISHED','HIDDEN','FLAGGED','REMOVED'),
+    moderator_notes VARCHAR(500),
+    helpful_count INTEGER,
+    not_helpful_count INTEGER,
+    provider_response VARCHAR(1000),
+    provider_response_date DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_booking UNIQUE (booking_id),
+    CONSTRAINT fk_reviews_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT fk_reviews_booking FOREIGN KEY (booking_id) REFERENCES bookings (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,41 @@
+-- Composite indexes for the repository finders, in the finder's equality, range and ORDER BY
+-- column order so MySQL can seek and read rows pre-sorted instead of filesorting.
+-- Feeds ordered by (created_at, id) were indexed in V1_1. Lookups by email, slug, role name,
+-- booking id and the review vote/audience sketch keys use their unique indexes.
+-- The substring searches (LIKE '%term%') and the radius query cannot use a B-tree index.
+
+-- users: findRecentUsers
+CREATE INDEX idx_users_active_created ON users (is_active, created_at, id);
+-- users: findByCityIgnoreCaseAndIsActiveTrue (derived IgnoreCase finders compare upper(column))
+CREATE INDEX idx_users_city_upper ON users ((UPPER(city)), is_active);
+-- users: findByStateIgnoreCaseAndIsActiveTrue
+CREATE INDEX idx_users_state_upper ON users ((UPPER(state)), is_active);
+-- users: existsByPhoneNumber
+CREATE INDEX idx_users_phone_number ON users (phone_number);
+
+-- user_roles: findByRoleName, countByRoleName, findProviderDirectory start from the role
+CREATE INDEX idx_user_roles_role_user ON user_roles (role_id, user_id);
+
+-- categories: findByIsActiveTrueOrderBySortOrder
+CREATE INDEX idx_categories_active_sort ON categories (is_active, sort_order);
+-- categories: findByParentCategoryIsNull/findByParentCategoryId...AndIsActiveTrueOrderBySortOrder
+CREATE INDEX idx_categories_parent_active_sort ON categories (parent_category_id, is_active, sort_order);
+-- categories: existsByNameAndIsActiveTrue (answered from the index alone)
+CREATE INDEX idx_categories_name_active ON categories (name, is_active);
+
+-- services: findByProviderIdAndIsActiveTrueOrderByCreatedAtDesc, and the provider side of review feeds
+CREATE INDEX idx_services_provider_active_created ON services (provider_id, is_active, created_at, id);
+-- services: findByIsFeaturedTrueAndIsActiveTrueOrderByCreatedAtDesc
+CREATE INDEX idx_services_featured_active_created ON services (is_featured, is_active, created_at, id);
+-- services: findBookableByCategory
+CREATE INDEX idx_services_category_active_available ON services (category_id, is_active, is_available);
+
+-- bookings: findByProvider_IdAndStatusOrderByScheduledDateTimeAsc
+CREATE INDEX idx_bookings_provider_status_scheduled ON bookings (provider_id, status, scheduled_date_time);
+-- bookings: findByCustomer_IdAndStatusOrderByScheduledDateTimeAsc
+CREATE INDEX idx_bookings_customer_status_scheduled ON bookings (customer_id, status, scheduled_date_time);
+-- bookings: findByProviderAndDateRange, and covering for findScheduleByProviderIds (no row lookups)
+CREATE INDEX idx_bookings_provider_scheduled ON bookings (provider_id, scheduled_date_time, status, estimated_duration_minutes);
+
+-- reviews: findByCustomer_IdOrderByCreatedAtDesc
+CREATE INDEX idx_reviews_customer_created ON reviews (customer_id, created_at, id);
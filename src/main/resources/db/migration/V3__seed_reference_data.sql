@@ -1,5 +1,6 @@
--- ServeNow Database Initialization Script
--- This script creates default roles and categories for the Local Service Finder platform
+-- ServeNow seed data
+-- Creates default roles and categories for the Local Service Finder platform. INSERT IGNORE keeps it
+-- safe on databases that already ran the old data.sql before being baselined.
 
 -- Insert default roles
 INSERT IGNORE INTO roles (name, description, created_at, updated_at, is_active) VALUES
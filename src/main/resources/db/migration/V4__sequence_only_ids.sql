@@ -0,0 +1,42 @@
+-- Ids come only from the {table}_SEQ tables (pooled-lo, see BaseEntity), so Hibernate can batch inserts.
+-- AUTO_INCREMENT is dropped so there is no second id source to reconcile by hand; scripts that insert
+-- rows directly reserve a block from the sequence table first (SELECT ... FOR UPDATE, then advance next_val).
+
+-- Id sequences: one-row tables on MySQL, named after the table as Hibernate expects.
+-- Hibernate allocates ids in blocks starting at next_val, so each starts past the ids
+-- AUTO_INCREMENT handed out so far (existing rows and the V3 seed).
+CREATE TABLE roles_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE users_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE categories_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE services_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE bookings_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE payments_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE reviews_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE review_votes_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE audience_sketches_SEQ (next_val BIGINT) ENGINE=InnoDB;
+CREATE TABLE trending_scores_SEQ (next_val BIGINT) ENGINE=InnoDB;
+
+INSERT INTO roles_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM roles;
+INSERT INTO users_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+INSERT INTO categories_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM categories;
+INSERT INTO services_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM services;
+INSERT INTO bookings_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM bookings;
+INSERT INTO payments_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM payments;
+INSERT INTO reviews_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM reviews;
+INSERT INTO review_votes_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM review_votes;
+INSERT INTO audience_sketches_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM audience_sketches;
+INSERT INTO trending_scores_SEQ SELECT COALESCE(MAX(id), 0) + 1 FROM trending_scores;
+
+-- The type is unchanged, but MySQL refuses to alter a column referenced by a foreign key while checks are on
+SET FOREIGN_KEY_CHECKS = 0;
+ALTER TABLE roles MODIFY id BIGINT NOT NULL;
+ALTER TABLE users MODIFY id BIGINT NOT NULL;
+ALTER TABLE categories MODIFY id BIGINT NOT NULL;
+ALTER TABLE services MODIFY id BIGINT NOT NULL;
+ALTER TABLE bookings MODIFY id BIGINT NOT NULL;
+ALTER TABLE payments MODIFY id BIGINT NOT NULL;
+ALTER TABLE reviews MODIFY id BIGINT NOT NULL;
+ALTER TABLE review_votes MODIFY id BIGINT NOT NULL;
+ALTER TABLE audience_sketches MODIFY id BIGINT NOT NULL;
+ALTER TABLE trending_scores MODIFY id BIGINT NOT NULL;
+SET FOREIGN_KEY_CHECKS = 1;
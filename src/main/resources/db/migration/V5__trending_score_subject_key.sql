@@ -0,0 +1,4 @@
+-- Trending checkpoints upsert one row per subject instead of rewriting the table,
+-- so the subject must identify the row. The old checkpoint never left duplicates behind.
+ALTER TABLE trending_scores
+    ADD CONSTRAINT uk_trending_scores_subject UNIQUE (subject_type, subject_id);
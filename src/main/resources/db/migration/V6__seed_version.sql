@@ -0,0 +1,6 @@
+-- Seed version last applied by DataInitializer (one row, see startup.seed-version).
+-- Older builds created this table at startup, so it may already exist.
+CREATE TABLE IF NOT EXISTS seed_version (
+    version VARCHAR(50) NOT NULL,
+    applied_at TIMESTAMP NOT NULL
+) ENGINE=InnoDB;
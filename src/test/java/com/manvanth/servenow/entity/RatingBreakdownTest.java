@@ -0,0 +1,97 @@
+package com.manvanth.servenow.entity;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class RatingBreakdownTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0.0, 1", "0.5, 1", "1.0, 1", "1.4, 1", "1.5, 2", "2.4, 2", "2.5, 3",
+            "3.5, 4", "4.4, 4", "4.5, 5", "5.0, 5"
+    })
+    void starBucketRoundsHalfUpAndClamps(String rating, int expected) {
+        assertThat(RatingBreakdown.starBucket(new BigDecimal(rating))).isEqualTo(expected);
+    }
+
+    @Test
+    void deltaCountsOneStarBucketAndOnlyGivenSubRatings() {
+        RatingBreakdown delta = RatingBreakdown.delta(review("4.5", "4.0", null, "5.0", null), 1);
+
+        assertThat(delta.getDistribution()).containsExactly(
+                entry(5, 1), entry(4, 0), entry(3, 0), entry(2, 0), entry(1, 0));
+        assertThat(delta.getQualitySum()).isEqualByComparingTo("4.0");
+        assertThat(delta.getQualityCount()).isEqualTo(1);
+        assertThat(delta.getCommunicationSum()).isEqualByComparingTo("0");
+        assertThat(delta.getCommunicationCount()).isZero();
+        assertThat(delta.getPunctualitySum()).isEqualByComparingTo("5.0");
+        assertThat(delta.getPunctualityCount()).isEqualTo(1);
+        assertThat(delta.getValueSum()).isEqualByComparingTo("0");
+        assertThat(delta.getValueCount()).isZero();
+    }
+
+    @Test
+    void negativeDirectionUndoesPositiveDelta() {
+        Review review = review("2.0", "1.5", "2.5", "3.0", "2.0");
+        RatingBreakdown added = RatingBreakdown.delta(review, 1);
+        RatingBreakdown removed = RatingBreakdown.delta(review, -1);
+
+        assertThat(removed.getStar2Count()).isEqualTo(-1);
+        assertThat(added.getStar2Count() + removed.getStar2Count()).isZero();
+        assertThat(added.getQualitySum().add(removed.getQualitySum())).isEqualByComparingTo("0");
+        assertThat(added.getCommunicationSum().add(removed.getCommunicationSum())).isEqualByComparingTo("0");
+        assertThat(added.getPunctualitySum().add(removed.getPunctualitySum())).isEqualByComparingTo("0");
+        assertThat(added.getValueSum().add(removed.getValueSum())).isEqualByComparingTo("0");
+        assertThat(removed.getValueCount()).isEqualTo(-1);
+    }
+
+    @Test
+    void averagesDivideSumByCountAndAreNullWithoutRatings() {
+        RatingBreakdown breakdown = new RatingBreakdown();
+        breakdown.setQualitySum(new BigDecimal("13.5"));
+        breakdown.setQualityCount(3);
+        breakdown.setCommunicationSum(new BigDecimal("9.0"));
+        breakdown.setCommunicationCount(2);
+
+        assertThat(breakdown.getAverageQuality()).isEqualByComparingTo("4.50");
+        assertThat(breakdown.getAverageCommunication()).isEqualByComparingTo("4.50");
+        assertThat(breakdown.getAveragePunctuality()).isNull();
+        assertThat(breakdown.getAverageValue()).isNull();
+    }
+
+    @Test
+    void averageRoundsToTwoDecimalsHalfUp() {
+        RatingBreakdown breakdown = new RatingBreakdown();
+        breakdown.setValueSum(new BigDecimal("10.0"));
+        breakdown.setValueCount(3);
+
+        assertThat(breakdown.getAverageValue()).isEqualTo(new BigDecimal("3.33"));
+    }
+
+    @Test
+    void distributionTreatsMissingCountsAsZero() {
+        RatingBreakdown breakdown = new RatingBreakdown();
+        breakdown.setStar5Count(7);
+        breakdown.setStar3Count(null);
+
+        assertThat(breakdown.getDistribution()).containsExactly(
+                entry(5, 7), entry(4, 0), entry(3, 0), entry(2, 0), entry(1, 0));
+    }
+
+    private static Review review(String overall, String quality, String communication, String punctuality,
+                                 String value) {
+        Review review = new Review();
+        review.setOverallRating(new BigDecimal(overall));
+        review.setQualityRating(quality != null ? new BigDecimal(quality) : null);
+        review.setCommunicationRating(communication != null ? new BigDecimal(communication) : null);
+        review.setPunctualityRating(punctuality != null ? new BigDecimal(punctuality) : null);
+        review.setValueRating(value != null ? new BigDecimal(value) : null);
+        return review;
+    }
+}
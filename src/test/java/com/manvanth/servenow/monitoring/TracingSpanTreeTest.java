@@ -0,0 +1,193 @@
+package com.manvanth.servenow.monitoring;
+
+import com.manvanth.servenow.dto.request.BookingRequest;
+import com.manvanth.servenow.entity.Category;
+import com.manvanth.servenow.entity.Role;
+import com.manvanth.servenow.entity.Service;
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.repository.CategoryRepository;
+import com.manvanth.servenow.repository.RoleRepository;
+import com.manvanth.servenow.repository.ServiceRepository;
+import com.manvanth.servenow.repository.UserRepository;
+import com.manvanth.servenow.service.BookingService;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Span tree of a sampled booking: the caller's span, the service span, repository spans
+ * under it and JDBC statement spans under those.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class TracingSpanTreeTest {
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private RecentSpanExporter spanExporter;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long customerId;
+    private Long serviceId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User customer = userRepository.save(user("customer-" + suffix, role("CUSTOMER")));
+            User provider = userRepository.save(user("provider-" + suffix, role("PROVIDER")));
+
+            Category category = new Category();
+            category.setName("Tracing " + suffix);
+            category.setSlug("tracing-" + suffix);
+            category = categoryRepository.save(category);
+
+            Service service = new Service();
+            service.setTitle("Traced service " + suffix);
+            service.setDescription("Service used to check the booking span tree");
+            service.setBasePrice(new BigDecimal("499.00"));
+            service.setProvider(provider);
+            service.setCategory(category);
+            service = serviceRepository.save(service);
+
+            customerId = customer.getId();
+            serviceId = service.getId();
+        });
+        flushSpans();
+        spanExporter.reset();
+    }
+
+    @Test
+    void sampledBookingHasServiceRepositoryAndJdbcSpans() {
+        BookingRequest request = new BookingRequest();
+        request.setServiceId(serviceId);
+        request.setScheduledAt(LocalDateTime.now().plusDays(3));
+        request.setServiceAddress("12 MG Road, Bengaluru");
+
+        Span root = tracer.nextSpan().name("test-request").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(root)) {
+            bookingService.createBooking(customerId, request);
+        } finally {
+            root.end();
+        }
+        flushSpans();
+
+        List<SpanData> trace = spanExporter.getFinishedSpans().stream()
+                .filter(span -> span.getTraceId().equals(root.context().traceId()))
+                .toList();
+
+        SpanData createBooking = single(trace, "BookingService.createBooking");
+        assertThat(createBooking.getParentSpanId()).isEqualTo(root.context().spanId());
+
+        SpanData findService = single(trace, "ServiceRepository.findById");
+        assertThat(findService.getParentSpanId()).isEqualTo(createBooking.getSpanId());
+        assertThat(findService.getAttributes().get(AttributeKey.stringKey("servenow.layer"))).isEqualTo("repository");
+
+        assertThat(trace)
+                .filteredOn(span -> span.getParentSpanId().equals(findService.getSpanId()))
+                .filteredOn(TracingSpanTreeTest::isJdbc)
+                .as("JDBC statement under ServiceRepository.findById")
+                .isNotEmpty();
+
+        // Repository spans also appear under nested service calls, e.g. the customer lookup
+        SpanData findUser = trace.stream()
+                .filter(span -> span.getName().equals("UserService.findUserEntityById"))
+                .filter(span -> span.getParentSpanId().equals(createBooking.getSpanId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(trace)
+                .filteredOn(span -> span.getParentSpanId().equals(findUser.getSpanId()))
+                .extracting(SpanData::getName)
+                .contains("UserRepository.findById");
+    }
+
+    @Test
+    void callsOutsideATraceRecordNoSpans() {
+        bookingService.getCustomerBookings(customerId, PageRequest.of(0, 10));
+        flushSpans();
+
+        List<SpanData> spans = spanExporter.getFinishedSpans();
+        assertThat(spans).extracting(SpanData::getName).doesNotContain("BookingService.getCustomerBookings");
+        // Scheduled jobs may run meanwhile with their own root span, so only parentless JDBC spans count
+        assertThat(spans)
+                .filteredOn(TracingSpanTreeTest::isJdbc)
+                .filteredOn(span -> !span.getParentSpanContext().isValid())
+                .isEmpty();
+    }
+
+    private void flushSpans() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private static SpanData single(List<SpanData> spans, String name) {
+        List<SpanData> matching = spans.stream().filter(span -> span.getName().equals(name)).toList();
+        assertThat(matching).as(name).hasSize(1);
+        return matching.get(0);
+    }
+
+    private static boolean isJdbc(SpanData span) {
+        return span.getAttributes().asMap().keySet().stream().anyMatch(key -> key.getKey().startsWith("jdbc."));
+    }
+
+    private Role role(String name) {
+        return roleRepository.findByNameAndIsActiveTrue(name).orElseGet(() -> {
+            Role role = new Role();
+            role.setName(name);
+            return roleRepository.save(role);
+        });
+    }
+
+    private static User user(String name, Role role) {
+        User user = new User();
+        user.setFirstName("Trace");
+        user.setLastName(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("{noop}tracing");
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return user;
+    }
+}
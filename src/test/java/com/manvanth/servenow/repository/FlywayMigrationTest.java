@@ -0,0 +1,115 @@
+package com.manvanth.servenow.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations on MySQL and starts the application with ddl-auto: validate, so a
+ * migration that does not match the entities fails here instead of at deployment (the test
+ * profile builds its H2 schema from the entities and never runs them).
+ * Also upgrades a database in the last release's schema, baselined at V1 like a production
+ * database without a history table, and checks it ends up with the same schema.
+ *
+ * Needs Docker for the MySQL container; where Docker is not available the test is skipped.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+                properties = {"jfr.continuous.enabled=false", "management.tracing.sampling.probability=0",
+                              "spring.jpa.hibernate.ddl-auto=validate"})
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationTest {
+
+    private static final String RELEASE_SCHEMA = "servenow_release";
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void newDatabaseIsMigratedAndMatchesEntities() {
+        // The context only starts when Hibernate validated the migrated schema
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM roles", Integer.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM roles_SEQ", Long.class))
+                .isGreaterThan(jdbcTemplate.queryForObject("SELECT MAX(id) FROM roles", Long.class));
+    }
+
+    @Test
+    void releaseDatabaseIsUpgradedToTheSameSchema() {
+        // Root, since the application's user can only see its own schema
+        JdbcTemplate root = new JdbcTemplate(dataSource(mysql.getDatabaseName()));
+        root.execute("DROP DATABASE IF EXISTS " + RELEASE_SCHEMA);
+        root.execute("CREATE DATABASE " + RELEASE_SCHEMA);
+        DriverManagerDataSource release = dataSource(RELEASE_SCHEMA);
+
+        // A release database: the V1 schema with data and no history table
+        Flyway.configure().dataSource(release).target("1").load().migrate();
+        JdbcTemplate db = new JdbcTemplate(release);
+        db.execute("DROP TABLE flyway_schema_history");
+        db.update("INSERT INTO users (id, first_name, last_name, email, password, created_at, is_active) "
+                + "VALUES (41, 'Asha', 'Rao', 'asha@release.test', 'x', NOW(), TRUE)");
+        db.update("INSERT INTO categories (id, name, slug, created_at, is_active) "
+                + "VALUES (7, 'Legacy', 'legacy', NOW(), TRUE)");
+        db.update("INSERT INTO services (id, title, description, base_price, pricing_type, provider_id, category_id, "
+                + "average_rating, total_reviews, created_at, is_active) "
+                + "VALUES (12, 'Pipe repair', 'Fixes pipes', 300.00, 'FIXED', 41, 7, 4.00, 1, NOW(), TRUE)");
+        db.update("INSERT INTO bookings (id, service_id, customer_id, provider_id, status, scheduled_date_time, created_at) "
+                + "VALUES (90, 12, 41, 41, 'COMPLETED', NOW(), NOW())");
+        db.update("INSERT INTO reviews (id, customer_id, service_id, booking_id, overall_rating, quality_rating, status, "
+                + "created_at) VALUES (5, 41, 12, 90, 4.0, 5.0, 'PUBLISHED', NOW())");
+
+        Flyway.configure().dataSource(release).baselineOnMigrate(true).baselineVersion("1").load().migrate();
+
+        assertThat(columns(root, RELEASE_SCHEMA)).containsExactlyElementsOf(columns(root, mysql.getDatabaseName()));
+        assertThat(indexes(root, RELEASE_SCHEMA)).containsExactlyElementsOf(indexes(root, mysql.getDatabaseName()));
+
+        Map<String, Object> service = db.queryForMap(
+                "SELECT rating_sum, total_reviews, star4_count, quality_sum, quality_count FROM services WHERE id = 12");
+        assertThat((BigDecimal) service.get("rating_sum")).isEqualByComparingTo("4.0");
+        assertThat(service).containsEntry("total_reviews", 1).containsEntry("star4_count", 1)
+                .containsEntry("quality_count", 1);
+        assertThat(db.queryForObject("SELECT total_reviews FROM users WHERE id = 41", Integer.class)).isEqualTo(1);
+        // Hibernate continues after the ids the release handed out
+        assertThat(db.queryForObject("SELECT next_val FROM users_SEQ", Long.class)).isGreaterThan(41L);
+        assertThat(db.queryForObject("SELECT next_val FROM services_SEQ", Long.class)).isGreaterThan(12L);
+        assertThat(db.queryForObject("SELECT next_val FROM reviews_SEQ", Long.class)).isGreaterThan(5L);
+    }
+
+    private static List<String> columns(JdbcTemplate root, String schema) {
+        return root.queryForList("SELECT CONCAT_WS(' ', table_name, column_name, column_type, is_nullable, "
+                + "COALESCE(extra, '')) FROM information_schema.columns WHERE table_schema = ? "
+                + "AND table_name <> 'flyway_schema_history' ORDER BY table_name, column_name", String.class, schema);
+    }
+
+    // Constraint names differ on upgraded databases, so only index columns and uniqueness are compared
+    private static List<String> indexes(JdbcTemplate root, String schema) {
+        return root.queryForList("SELECT CONCAT_WS(' ', table_name, non_unique, "
+                + "GROUP_CONCAT(COALESCE(column_name, expression) ORDER BY seq_in_index)) "
+                + "FROM information_schema.statistics WHERE table_schema = ? AND table_name <> 'flyway_schema_history' "
+                + "GROUP BY table_name, index_name, non_unique ORDER BY 1", String.class, schema);
+    }
+
+    private static DriverManagerDataSource dataSource(String schema) {
+        String url = mysql.getJdbcUrl().replace("/" + mysql.getDatabaseName(), "/" + schema);
+        return new DriverManagerDataSource(url, "root", mysql.getPassword());
+    }
+}
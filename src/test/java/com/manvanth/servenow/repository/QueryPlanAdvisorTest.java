@@ -0,0 +1,525 @@
+package com.manvanth.servenow.repository;
+
+import com.manvanth.servenow.entity.Booking;
+import com.manvanth.servenow.entity.Category;
+import com.manvanth.servenow.entity.RatingBreakdown;
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.entity.Role;
+import com.manvanth.servenow.util.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan advisor: runs every derived and @Query repository method against a seeded MySQL
+ * container (schema from the Flyway migrations), EXPLAINs each statement it executed and fails
+ * when a table is read by full scan or filesort with more than query-plan.max-rows estimated rows.
+ * Scans that cannot be avoided are listed in ACCEPTED_SCANS with the reason.
+ *
+ * <pre>
+ * ./mvnw test -Dtest=QueryPlanAdvisorTest [-Dquery-plan.max-rows=1000] [-Dquery-plan.report-only=true]
+ * </pre>
+ *
+ * Parameters are chosen from the parameter name and type; a new parameter that matches none of
+ * the samples fails the test until one is added in {@link #scalar}. The plan report is logged at INFO.
+ *
+ * Needs Docker for the MySQL container; where Docker is not available the test is skipped, not
+ * failed, so a green build without Docker has not checked any plans.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+                properties = {"jfr.continuous.enabled=false", "management.tracing.sampling.probability=0"})
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanAdvisorTest {
+
+    private static final long MAX_ROWS = Long.getLong("query-plan.max-rows", 1000);
+    private static final boolean REPORT_ONLY = Boolean.getBoolean("query-plan.report-only");
+
+    private static final Map<String, String> ACCEPTED_SCANS = Map.of(
+            "ServiceRepository.searchServices", "substring search on title and description",
+            "UserRepository.searchUsers", "substring search on name and email",
+            "UserRepository.findUsersWithinRadius", "distance is computed per row",
+            "UserRepository.findProvidersWithMinRating", "average rating is computed per row",
+            "UserRepository.findByIsEmailVerifiedAndIsActiveTrue", "unbounded admin report on a boolean flag",
+            "UserRepository.findByIsPhoneVerifiedAndIsActiveTrue", "unbounded admin report on a boolean flag",
+            "UserRepository.findByEnabledAndIsActiveTrue", "unbounded admin report on a boolean flag");
+
+    private static final int PROVIDERS = 500;
+    private static final int CUSTOMERS = 4_500;
+    private static final int SERVICES = 3_000;
+    private static final int BOOKINGS = 20_000;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.4")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    // Statements executed by the repository method currently being invoked
+    private static final ThreadLocal<Map<String, List<ParameterSetOperation>>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Samples samples;
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourceProxy() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .listener(new CapturingListener())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class CapturingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Map<String, List<ParameterSetOperation>> captured = CAPTURED.get();
+            if (captured == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                List<List<ParameterSetOperation>> parameters = queryInfo.getParametersList();
+                captured.putIfAbsent(queryInfo.getQuery(), parameters.isEmpty() ? List.of() : parameters.get(0));
+            }
+        }
+    }
+
+    @Test
+    void repositoryQueriesAvoidLargeScans() {
+        samples = seed();
+
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> violations = new ArrayList<>();
+        StringBuilder report = new StringBuilder("Query plans (max rows " + MAX_ROWS + "):\n");
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            List<Method> methods = information.getQueryMethods().stream()
+                    .sorted(Comparator.comparing(Method::getName))
+                    .toList();
+            for (Method method : methods) {
+                String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                Map<String, List<ParameterSetOperation>> statements;
+                try {
+                    statements = invoke(domainType, repository, method);
+                } catch (Exception e) {
+                    violations.add(name + " could not be run: " + e.getMessage());
+                    continue;
+                }
+                report.append(name).append('\n');
+                statements.forEach((sql, parameters) -> {
+                    if (!isExplainable(sql)) {
+                        return;
+                    }
+                    for (Map<String, Object> row : explain(sql, parameters)) {
+                        String type = String.valueOf(row.get("type"));
+                        String extra = row.get("Extra") == null ? "" : row.get("Extra").toString();
+                        long rows = row.get("rows") == null ? 0 : Long.parseLong(row.get("rows").toString());
+                        boolean large = rows > MAX_ROWS && ("ALL".equals(type) || extra.contains("Using filesort"));
+                        String line = String.format("  %-20s type=%-6s key=%-40s rows=%-8d %s",
+                                row.get("table"), type, row.get("key"), rows, extra);
+                        if (large && ACCEPTED_SCANS.containsKey(name)) {
+                            line += "  [accepted: " + ACCEPTED_SCANS.get(name) + "]";
+                        } else if (large) {
+                            line += "  [TOO MANY ROWS]";
+                            violations.add(name + ": " + row.get("table") + " " + type + " " + extra
+                                    + " over ~" + rows + " rows\n    " + sql);
+                        }
+                        report.append(line).append('\n');
+                    }
+                });
+            }
+        }
+        log.info("Query plans:\n{}", report);
+
+        if (!REPORT_ONLY) {
+            assertThat(violations)
+                    .as("Repository queries scanning or filesorting more than %d rows; add an index in a new "
+                            + "migration or, if unavoidable, an ACCEPTED_SCANS entry", MAX_ROWS)
+                    .isEmpty();
+        }
+    }
+
+    /**
+     * Run a repository method in a rolled-back transaction and return the statements it executed
+     */
+    private Map<String, List<ParameterSetOperation>> invoke(Class<?> domainType, Object repository, Method method)
+            throws Exception {
+        Object[] args = new Object[method.getParameterCount()];
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            args[i] = sample(domainType, parameters[i]);
+        }
+
+        Map<String, List<ParameterSetOperation>> statements = new LinkedHashMap<>();
+        CAPTURED.set(statements);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    Object result = method.invoke(repository, args);
+                    if (result instanceof Stream<?> stream) {
+                        try (stream) {
+                            stream.forEach(row -> { });
+                        }
+                    }
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), e);
+                }
+            });
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    private static boolean isExplainable(String sql) {
+        // Hibernate prefixes statements with a /* comment */ (hibernate.use_sql_comments)
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        while (statement.startsWith("/*") && statement.contains("*/")) {
+            statement = statement.substring(statement.indexOf("*/") + 2).stripLeading();
+        }
+        return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete")
+                || statement.startsWith("with");
+    }
+
+    private List<Map<String, Object>> explain(String sql, List<ParameterSetOperation> parameters) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+            for (ParameterSetOperation operation : parameters) {
+                Object[] values = operation.getArgs();
+                if ("setNull".equals(operation.getMethod().getName())) {
+                    statement.setNull((Integer) values[0], (Integer) values[1]);
+                } else {
+                    statement.setObject((Integer) values[0], values[1]);
+                }
+            }
+            return statement;
+        }, (resultSet, rowNum) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String column : List.of("table", "type", "key", "rows", "Extra")) {
+                row.put(column, resultSet.getObject(column));
+            }
+            return row;
+        });
+    }
+
+    // Sample parameter values
+
+    private Object sample(Class<?> domainType, Parameter parameter) {
+        Param param = parameter.getAnnotation(Param.class);
+        String name = (param != null ? param.value() : parameter.getName()).toLowerCase(Locale.ROOT);
+        Class<?> type = parameter.getType();
+        if (Pageable.class.isAssignableFrom(type)) {
+            return PageRequest.of(0, 20);
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> element = (Class<?>) ((ParameterizedType) parameter.getParameterizedType())
+                    .getActualTypeArguments()[0];
+            if (element == Long.class) {
+                return ids(domainType, name).subList(0, 10);
+            }
+            if (element == Booking.BookingStatus.class) {
+                return List.of(Booking.BookingStatus.ACCEPTED, Booking.BookingStatus.CONFIRMED);
+            }
+            return List.of(scalar(domainType, name, element));
+        }
+        return scalar(domainType, name, type);
+    }
+
+    private Object scalar(Class<?> domainType, String name, Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return ids(domainType, name).get(0);
+        }
+        if (type == String.class) {
+            if (name.contains("email")) {
+                return samples.customerEmail();
+            }
+            if (name.contains("slug")) {
+                return domainType == Category.class ? "plumbing" : samples.serviceSlug();
+            }
+            if (name.equals("rolename") || (name.equals("name") && domainType == Role.class)) {
+                return "PROVIDER";
+            }
+            if (name.equals("name")) {
+                return "Plumbing";
+            }
+            if (name.equals("city") || name.equals("location")) {
+                return "city 7";
+            }
+            if (name.equals("state")) {
+                return "State 3";
+            }
+            if (name.equals("period") || name.equals("periods")) {
+                return "ALL";
+            }
+            if (name.equals("phonenumber")) {
+                return samples.customerPhone();
+            }
+            if (name.equals("searchterm")) {
+                return "clean";
+            }
+            if (name.equals("notes")) {
+                return "Plan check";
+            }
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return true;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Double.class || type == double.class) {
+            return switch (name) {
+                case "latitude" -> 12.97;
+                case "longitude" -> 77.59;
+                case "radiuskm" -> 25.0;
+                case "minrating" -> 4.0;
+                default -> 1.0;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        }
+        if (type == LocalDateTime.class) {
+            return switch (name) {
+                case "start" -> LocalDateTime.now().minusDays(30);
+                case "end" -> LocalDateTime.now().plusDays(30);
+                default -> LocalDateTime.now();
+            };
+        }
+        if (type == RatingBreakdown.class) {
+            return new RatingBreakdown();
+        }
+        if (type == Booking.BookingStatus.class) {
+            return Booking.BookingStatus.ACCEPTED;
+        }
+        if (type == Review.ReviewStatus.class) {
+            return Review.ReviewStatus.PUBLISHED;
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalStateException("No sample value for parameter '" + name + "' of type " + type.getName());
+    }
+
+    /**
+     * Seeded ids for a parameter, by its name or else the repository's entity
+     */
+    private List<Long> ids(Class<?> domainType, String name) {
+        if (name.contains("provider")) {
+            return samples.providerIds();
+        }
+        if (name.contains("customer") || name.contains("user")) {
+            return samples.customerIds();
+        }
+        if (name.contains("service") || name.contains("subject")) {
+            return samples.serviceIds();
+        }
+        if (name.contains("categor") || name.contains("parent")) {
+            return samples.categoryIds();
+        }
+        if (name.contains("booking")) {
+            return samples.bookingIds();
+        }
+        if (name.contains("review")) {
+            return samples.reviewIds();
+        }
+        return switch (domainType.getSimpleName()) {
+            case "Service" -> samples.serviceIds();
+            case "Booking" -> samples.bookingIds();
+            case "Review" -> samples.reviewIds();
+            case "Category" -> samples.categoryIds();
+            default -> samples.customerIds();
+        };
+    }
+
+    // Seed data
+
+    private record Samples(List<Long> providerIds, List<Long> customerIds, List<Long> categoryIds,
+                           List<Long> serviceIds, List<Long> bookingIds, List<Long> reviewIds,
+                           String customerEmail, String customerPhone, String serviceSlug) {
+    }
+
+    /**
+     * Bulk-insert a few thousand rows per table with plain JDBC so the optimizer sees realistic statistics
+     */
+    private Samples seed() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        Long providerRole = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'PROVIDER'", Long.class);
+        Long customerRole = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'CUSTOMER'", Long.class);
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+
+        long firstUserId = reserveIds("users_SEQ", PROVIDERS + CUSTOMERS);
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < PROVIDERS + CUSTOMERS; i++) {
+            String prefix = i < PROVIDERS ? "p" : "c";
+            users.add(new Object[]{firstUserId + i, "First" + i, "Last" + i, prefix + i + "@plan.test", "{noop}password",
+                    String.format("+1555%07d", i), "City " + (i % 50), "State " + (i % 20),
+                    random.nextBoolean(), random.nextInt(10) > 0, random.nextInt(50) > 0,
+                    now.minusMinutes(random.nextInt(1_000_000))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, first_name, last_name, email, password, phone_number, city, state, "
+                + "is_email_verified, is_phone_verified, is_active, created_at, updated_at, enabled, account_non_expired, "
+                + "account_non_locked, credentials_non_expired, total_reviews, rating_sum) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), TRUE, TRUE, TRUE, TRUE, 0, 0)", users);
+        List<Long> providerIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'p%@plan.test' ORDER BY id", Long.class);
+        List<Long> customerIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'c%@plan.test' ORDER BY id", Long.class);
+        List<Object[]> userRoles = new ArrayList<>();
+        providerIds.forEach(id -> userRoles.add(new Object[]{id, providerRole}));
+        customerIds.forEach(id -> userRoles.add(new Object[]{id, customerRole}));
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userRoles);
+
+        long firstServiceId = reserveIds("services_SEQ", SERVICES);
+        long[] serviceProvider = new long[SERVICES];
+        List<Object[]> services = new ArrayList<>();
+        for (int i = 0; i < SERVICES; i++) {
+            serviceProvider[i] = providerIds.get(random.nextInt(providerIds.size()));
+            services.add(new Object[]{firstServiceId + i, "Service " + i, "Plan test service " + i, "plan-service-" + i,
+                    serviceProvider[i], categoryIds.get(random.nextInt(categoryIds.size())),
+                    random.nextInt(20) > 0, random.nextInt(10) > 0, random.nextInt(30) == 0,
+                    now.minusMinutes(random.nextInt(1_000_000))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO services (id, title, description, slug, provider_id, category_id, is_active, "
+                + "is_available, is_featured, created_at, updated_at, base_price, pricing_type, requires_quote, "
+                + "rating_sum, total_reviews, total_bookings, view_count) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), 100.00, 'FIXED', FALSE, 0, 0, 0, 0)", services);
+        List<Long> serviceIds = jdbcTemplate.queryForList(
+                "SELECT id FROM services WHERE slug LIKE 'plan-service-%' ORDER BY id", Long.class);
+
+        Booking.BookingStatus[] statuses = Booking.BookingStatus.values();
+        int[] bookingService = new int[BOOKINGS];
+        long[] bookingCustomer = new long[BOOKINGS];
+        long firstBookingId = reserveIds("bookings_SEQ", BOOKINGS);
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookingService[i] = random.nextInt(SERVICES);
+            bookingCustomer[i] = customerIds.get(random.nextInt(customerIds.size()));
+            bookings.add(new Object[]{firstBookingId + i, serviceIds.get(bookingService[i]), bookingCustomer[i],
+                    serviceProvider[bookingService[i]], statuses[random.nextInt(statuses.length)].name(),
+                    now.plusHours(random.nextInt(24 * 120) - 24 * 60), now.minusMinutes(random.nextInt(1_000_000))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (id, service_id, customer_id, provider_id, status, "
+                + "scheduled_date_time, created_at, updated_at, estimated_duration_minutes, currency, is_active) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), 60, 'INR', TRUE)", bookings);
+        List<Long> bookingIds = jdbcTemplate.queryForList("SELECT id FROM bookings ORDER BY id", Long.class);
+
+        // Reviews on two of every five bookings
+        long nextReviewId = reserveIds("reviews_SEQ", BOOKINGS * 2 / 5);
+        List<Object[]> reviews = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            if (i % 5 < 2) {
+                reviews.add(new Object[]{nextReviewId++, bookingCustomer[i], serviceIds.get(bookingService[i]), bookingIds.get(i),
+                        1 + random.nextInt(5), random.nextInt(10) > 0 ? "PUBLISHED" : "PENDING",
+                        random.nextInt(20), random.nextInt(5), now.minusMinutes(random.nextInt(1_000_000))});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reviews (id, customer_id, service_id, booking_id, overall_rating, status, "
+                + "helpful_count, not_helpful_count, created_at, updated_at, is_verified, is_featured, is_public, "
+                + "is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), TRUE, FALSE, TRUE, TRUE)", reviews);
+        List<Long> reviewIds = jdbcTemplate.queryForList("SELECT id FROM reviews ORDER BY id", Long.class);
+
+        long firstVoteId = reserveIds("review_votes_SEQ", 2_000);
+        List<Object[]> votes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            votes.add(new Object[]{firstVoteId + i, reviewIds.get(i), customerIds.get(random.nextInt(customerIds.size())),
+                    random.nextBoolean()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO review_votes (id, review_id, user_id, helpful, created_at, updated_at, "
+                + "is_active) VALUES (?, ?, ?, ?, NOW(), NOW(), TRUE)", votes);
+
+        long firstSketchId = reserveIds("audience_sketches_SEQ", 500);
+        List<Object[]> sketches = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            sketches.add(new Object[]{firstSketchId + i, serviceIds.get(i), new byte[HyperLogLog.SIZE_BYTES]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO audience_sketches (id, subject_type, subject_id, metric, period_key, "
+                + "registers, created_at, updated_at, is_active) "
+                + "VALUES (?, 'SERVICE', ?, 'VIEWERS', 'ALL', ?, NOW(), NOW(), TRUE)", sketches);
+
+        jdbcTemplate.queryForList("ANALYZE TABLE users, user_roles, categories, services, bookings, reviews, "
+                + "review_votes, audience_sketches");
+
+        return new Samples(providerIds, customerIds, categoryIds, serviceIds, bookingIds, reviewIds,
+                "c" + PROVIDERS + "@plan.test", String.format("+1555%07d", PROVIDERS), "plan-service-0");
+    }
+
+    /**
+     * Reserve count ids from an entity's id sequence, the only id source (the columns have no AUTO_INCREMENT)
+     */
+    private long reserveIds(String sequence, int count) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Long first = jdbcTemplate.queryForObject("SELECT next_val FROM " + sequence + " FOR UPDATE", Long.class);
+            jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ?", first + count);
+            return first;
+        });
+    }
+}
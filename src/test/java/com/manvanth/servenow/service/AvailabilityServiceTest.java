@@ -0,0 +1,196 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.dto.response.AvailableSlotResponse;
+import com.manvanth.servenow.entity.Service;
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.repository.BookingRepository;
+import com.manvanth.servenow.repository.ServiceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Slot grid and earliest-slot search. Every provider is booked for the whole of today so the
+ * expected slots do not depend on the time the test runs.
+ */
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    private static final long CATEGORY_ID = 7L;
+
+    @Mock
+    private ServiceRepository serviceRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private AvailabilityService availabilityService;
+
+    private LocalDateTime today;
+    private LocalDateTime tomorrow;
+    private final List<Service> services = new ArrayList<>();
+    private final List<Object[]> schedule = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        availabilityService = new AvailabilityService(serviceRepository, bookingRepository);
+        ReflectionTestUtils.setField(availabilityService, "slotMinutes", 15);
+        ReflectionTestUtils.setField(availabilityService, "horizonDays", 3);
+        ReflectionTestUtils.setField(availabilityService, "workdayStart", "09:00");
+        ReflectionTestUtils.setField(availabilityService, "workdayEnd", "18:00");
+        today = LocalDate.now().atStartOfDay();
+        tomorrow = today.plusDays(1);
+    }
+
+    @Test
+    void freeProviderGetsStartOfTomorrowsWorkday() {
+        provider(1L, service(10L, 60));
+
+        List<AvailableSlotResponse> slots = findSlots(10);
+
+        assertThat(slots).hasSize(1);
+        AvailableSlotResponse slot = slots.get(0);
+        assertThat(slot.getServiceId()).isEqualTo(10L);
+        assertThat(slot.getProviderId()).isEqualTo(1L);
+        assertThat(slot.getSlotStart()).isEqualTo(tomorrow.withHour(9));
+        assertThat(slot.getSlotEnd()).isEqualTo(tomorrow.withHour(10));
+    }
+
+    @Test
+    void unalignedBookingBlocksEveryTouchedSlot() {
+        provider(1L, service(10L, 15));
+        booking(1L, tomorrow.withHour(9).withMinute(10), 30);
+
+        // 09:10-09:40 touches the 09:00, 09:15 and 09:30 slots
+        assertThat(findSlots(10)).singleElement()
+                .satisfies(slot -> assertThat(slot.getSlotStart()).isEqualTo(tomorrow.withHour(9).withMinute(45)));
+    }
+
+    @Test
+    void gapShorterThanServiceDurationIsSkipped() {
+        provider(1L, service(10L, 90));
+        booking(1L, tomorrow.withHour(10), 60);
+
+        // 09:00-10:00 is free but too short for 90 minutes
+        assertThat(findSlots(10)).singleElement()
+                .satisfies(slot -> assertThat(slot.getSlotStart()).isEqualTo(tomorrow.withHour(11)));
+    }
+
+    @Test
+    void serviceWithoutDurationUsesDefaultHour() {
+        provider(1L, service(10L, null));
+        booking(1L, tomorrow.withHour(9).withMinute(30), 30);
+
+        AvailableSlotResponse slot = findSlots(10).get(0);
+
+        assertThat(slot.getDurationMinutes()).isEqualTo(60);
+        assertThat(slot.getSlotStart()).isEqualTo(tomorrow.withHour(10));
+    }
+
+    @Test
+    void bookingFromPreviousDaySpillsIntoHorizon() {
+        provider(1L, service(10L, 60));
+        // Replaces the whole-day block: runs from yesterday 23:00 through tomorrow 10:00
+        schedule.clear();
+        booking(1L, today.minusHours(1), 35 * 60);
+
+        assertThat(findSlots(10)).singleElement()
+                .satisfies(slot -> assertThat(slot.getSlotStart()).isEqualTo(tomorrow.withHour(10)));
+    }
+
+    @Test
+    void fullyBookedProviderIsLeftOut() {
+        provider(1L, service(10L, 60));
+        provider(2L, service(20L, 60));
+        booking(2L, tomorrow, 2 * 24 * 60);
+
+        assertThat(findSlots(10)).extracting(AvailableSlotResponse::getServiceId).containsExactly(10L);
+    }
+
+    @Test
+    void slotsAreOrderedByStartThenServiceAndLimited() {
+        provider(1L, service(12L, 60), service(11L, 60));
+        provider(2L, service(20L, 60));
+        booking(2L, tomorrow.withHour(9), 60);
+        provider(3L, service(30L, 60));
+        booking(3L, tomorrow.withHour(9), 30);
+
+        assertThat(findSlots(10)).extracting(AvailableSlotResponse::getServiceId)
+                .containsExactly(11L, 12L, 30L, 20L);
+        assertThat(findSlots(2)).extracting(AvailableSlotResponse::getServiceId)
+                .containsExactly(11L, 12L);
+    }
+
+    @Test
+    void providersAreSplitAcrossTasksWithoutLosingAny() {
+        for (long providerId = 1; providerId <= 30; providerId++) {
+            provider(providerId, service(providerId * 100, 60));
+            // Provider n is busy for the first n quarter hours of tomorrow
+            booking(providerId, tomorrow.withHour(9), (int) providerId * 15);
+        }
+
+        List<AvailableSlotResponse> slots = findSlots(100);
+
+        assertThat(slots).hasSize(30);
+        for (int i = 0; i < slots.size(); i++) {
+            assertThat(slots.get(i).getProviderId()).isEqualTo(i + 1L);
+            assertThat(slots.get(i).getSlotStart()).isEqualTo(tomorrow.withHour(9).plusMinutes((i + 1) * 15L));
+        }
+    }
+
+    @Test
+    void emptyCategorySkipsScheduleLookup() {
+        when(serviceRepository.findBookableByCategory(CATEGORY_ID, "pune")).thenReturn(List.of());
+
+        assertThat(availabilityService.findEarliestSlots(CATEGORY_ID, "  Pune ", 10)).isEmpty();
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private List<AvailableSlotResponse> findSlots(int limit) {
+        when(serviceRepository.findBookableByCategory(CATEGORY_ID, null)).thenReturn(services);
+        when(bookingRepository.findScheduleByProviderIds(anyCollection(), anyCollection(), any(), eq(today.plusDays(3))))
+                .thenReturn(schedule);
+        return availabilityService.findEarliestSlots(CATEGORY_ID, " ", limit);
+    }
+
+    private void provider(Long providerId, Service... offered) {
+        User provider = new User();
+        provider.setId(providerId);
+        provider.setFirstName("Provider");
+        provider.setLastName(String.valueOf(providerId));
+        for (Service service : offered) {
+            service.setProvider(provider);
+            services.add(service);
+        }
+        booking(providerId, today, 24 * 60);
+    }
+
+    private Service service(Long id, Integer durationMinutes) {
+        Service service = new Service();
+        service.setId(id);
+        service.setTitle("Service " + id);
+        service.setBasePrice(new BigDecimal("500.00"));
+        service.setEstimatedDurationMinutes(durationMinutes);
+        return service;
+    }
+
+    private void booking(Long providerId, LocalDateTime start, Integer durationMinutes) {
+        schedule.add(new Object[]{providerId, start, durationMinutes});
+    }
+}
@@ -0,0 +1,168 @@
+package com.manvanth.servenow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manvanth.servenow.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceTest {
+
+    record Payload(Long serviceId, String notes) {}
+
+    private IdempotencyService idempotencyService;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyService, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 100);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMs", 5_000L);
+    }
+
+    @Test
+    void replayReturnsStoredResultWithoutRunningAgain() {
+        Payload payload = new Payload(1L, "Kitchen sink");
+
+        String first = idempotencyService.execute("bookings", "alice", "key-1", payload, this::create);
+        String replay = idempotencyService.execute("bookings", "alice", "key-1", new Payload(1L, "Kitchen sink"),
+                this::create);
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void differentPayloadUnderSameKeyIsRejected() {
+        idempotencyService.execute("bookings", "alice", "key-1", new Payload(1L, "Kitchen sink"), this::create);
+
+        assertThatThrownBy(() -> idempotencyService.execute("bookings", "alice", "key-1",
+                new Payload(1L, "Bathroom sink"), this::create))
+                .isInstanceOf(ValidationException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void payloadsWithEqualHashCodesAreStillDistinguished() {
+        // "Aa" and "BB" share a String hash code, and so do records built from them
+        Payload first = new Payload(1L, "Aa");
+        Payload second = new Payload(1L, "BB");
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+
+        idempotencyService.execute("bookings", "alice", "key-1", first, this::create);
+
+        assertThatThrownBy(() -> idempotencyService.execute("bookings", "alice", "key-1", second, this::create))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void keysAreScopedPerPrincipalAndEndpoint() {
+        Payload payload = new Payload(1L, "Kitchen sink");
+
+        idempotencyService.execute("bookings", "alice", "key-1", payload, this::create);
+        idempotencyService.execute("bookings", "bob", "key-1", payload, this::create);
+        idempotencyService.execute("reviews", "alice", "key-1", payload, this::create);
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    void failedActionIsNotStored() {
+        Payload payload = new Payload(1L, "Kitchen sink");
+
+        assertThatThrownBy(() -> idempotencyService.execute("bookings", "alice", "key-1", payload, () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(idempotencyService.execute("bookings", "alice", "key-1", payload, this::create))
+                .isEqualTo("booking-1");
+    }
+
+    @Test
+    void concurrentFirstUseRunsActionOnce() throws Exception {
+        Payload payload = new Payload(1L, "Kitchen sink");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            Future<String> original = executor.submit(() ->
+                    idempotencyService.execute("bookings", "alice", "key-1", payload, () -> {
+                        started.countDown();
+                        await(release);
+                        return create();
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<?>[] duplicates = new Future<?>[7];
+            for (int i = 0; i < duplicates.length; i++) {
+                duplicates[i] = executor.submit(() ->
+                        idempotencyService.execute("bookings", "alice", "key-1", payload, this::create));
+            }
+            // An in-flight entry never expires, so a purge must not let a duplicate through
+            idempotencyService.purgeExpired();
+            release.countDown();
+
+            assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo("booking-1");
+            for (Future<?> duplicate : duplicates) {
+                assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("booking-1");
+            }
+        }
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void purgeDropsExpiredEntriesSoKeyCanBeReused() {
+        ReflectionTestUtils.setField(idempotencyService, "ttlMinutes", 0L);
+
+        idempotencyService.execute("bookings", "alice", "key-1", new Payload(1L, "Kitchen sink"), this::create);
+        idempotencyService.purgeExpired();
+
+        assertThat(idempotencyService.execute("bookings", "alice", "key-1", new Payload(2L, "Garden"), this::create))
+                .isEqualTo("booking-2");
+    }
+
+    @Test
+    void fullStoreRunsWithoutReplayProtection() {
+        ReflectionTestUtils.setField(idempotencyService, "maxEntries", 1);
+        Payload payload = new Payload(1L, "Kitchen sink");
+
+        idempotencyService.execute("bookings", "alice", "key-1", payload, this::create);
+        idempotencyService.execute("bookings", "alice", "key-2", payload, this::create);
+        idempotencyService.execute("bookings", "alice", "key-2", payload, this::create);
+
+        assertThat(executions).hasValue(3);
+    }
+
+    @Test
+    void missingKeyAlwaysRuns() {
+        Payload payload = new Payload(1L, "Kitchen sink");
+
+        idempotencyService.execute("bookings", "alice", null, payload, this::create);
+        idempotencyService.execute("bookings", "alice", " ", payload, this::create);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private String create() {
+        return "booking-" + executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
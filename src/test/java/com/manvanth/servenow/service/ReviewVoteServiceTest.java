@@ -0,0 +1,189 @@
+package com.manvanth.servenow.service;
+
+import com.manvanth.servenow.entity.Review;
+import com.manvanth.servenow.entity.ReviewVote;
+import com.manvanth.servenow.entity.User;
+import com.manvanth.servenow.repository.ReviewRepository;
+import com.manvanth.servenow.repository.ReviewVoteRepository;
+import com.manvanth.servenow.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Write-behind helpful counters: buffered only after commit, flushed in one batch,
+ * put back for the next flush when the batch fails, and dropped once a recount has counted them.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewVoteServiceTest {
+
+    private static final long REVIEW_ID = 10L;
+    private static final long AUTHOR_ID = 1L;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewVoteRepository reviewVoteRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ReviewVoteService reviewVoteService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        reviewVoteService = new ReviewVoteService(reviewRepository, reviewVoteRepository, userRepository,
+                jdbcTemplate, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void votesAreFlushedAsOneBatchAfterCommit() {
+        stubPublishedReview();
+        voteAndCommit(2L, true);
+        voteAndCommit(3L, true);
+        voteAndCommit(4L, false);
+
+        reviewVoteService.flush();
+
+        assertThat(flushedBatches(1).get(0)).containsExactly(row(2, 1));
+    }
+
+    @Test
+    void rolledBackVoteIsNeverCounted() {
+        stubPublishedReview();
+        TransactionSynchronizationManager.initSynchronization();
+        reviewVoteService.vote(REVIEW_ID, 2L, true);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        reviewVoteService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedFlushPutsDeltasBackForNextFlush() {
+        stubPublishedReview();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(new int[]{1});
+        voteAndCommit(2L, true);
+        voteAndCommit(3L, false);
+
+        reviewVoteService.flush();
+        // A vote arriving between the failed and the next flush is added on top
+        voteAndCommit(4L, true);
+        reviewVoteService.flush();
+
+        List<List<Object[]>> batches = flushedBatches(2);
+        assertThat(batches.get(0)).containsExactly(row(1, 1));
+        assertThat(batches.get(1)).containsExactly(row(2, 1));
+    }
+
+    @Test
+    void recountDropsDeltasItCounted() {
+        stubPublishedReview();
+        voteAndCommit(2L, true);
+        voteAndCommit(3L, false);
+
+        reviewVoteService.recount();
+        reviewVoteService.flush();
+
+        verify(jdbcTemplate).update(anyString());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void failedRecountKeepsDeltas() {
+        stubPublishedReview();
+        when(jdbcTemplate.update(anyString())).thenThrow(new DataAccessResourceFailureException("connection lost"));
+        voteAndCommit(2L, true);
+
+        assertThatThrownBy(() -> reviewVoteService.recount()).isInstanceOf(DataAccessResourceFailureException.class);
+        reviewVoteService.flush();
+
+        assertThat(flushedBatches(1).get(0)).containsExactly(row(1, 0));
+    }
+
+    @Test
+    void emptyBufferSkipsDatabase() {
+        reviewVoteService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private void stubPublishedReview() {
+        User author = new User();
+        author.setId(AUTHOR_ID);
+        Review review = new Review();
+        review.setId(REVIEW_ID);
+        review.setCustomer(author);
+        review.setStatus(Review.ReviewStatus.PUBLISHED);
+        when(reviewRepository.findById(REVIEW_ID)).thenReturn(Optional.of(review));
+        when(reviewVoteRepository.findByReview_IdAndUser_Id(any(), any())).thenReturn(Optional.empty());
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> {
+            User voter = new User();
+            voter.setId(invocation.getArgument(0));
+            return voter;
+        });
+        when(reviewVoteRepository.saveAndFlush(any(ReviewVote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private void voteAndCommit(Long userId, boolean helpful) {
+        TransactionSynchronizationManager.initSynchronization();
+        reviewVoteService.vote(REVIEW_ID, userId, helpful);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> flushedBatches(int flushes) {
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(flushes)).batchUpdate(anyString(), batches.capture());
+        return batches.getAllValues();
+    }
+
+    private static Object[] row(long helpful, long notHelpful) {
+        return new Object[]{helpful, notHelpful, REVIEW_ID};
+    }
+}
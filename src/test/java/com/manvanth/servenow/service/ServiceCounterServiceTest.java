@@ -0,0 +1,72 @@
+package com.manvanth.servenow.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Flush lag of the write-behind service counters across successful and failed flushes.
+ */
+@ExtendWith(MockitoExtension.class)
+class ServiceCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ServiceCounterService serviceCounterService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        serviceCounterService = new ServiceCounterService(jdbcTemplate, transactionTemplate, taskScheduler, meterRegistry);
+        ReflectionTestUtils.setField(serviceCounterService, "flushThreshold", 1000L);
+    }
+
+    @Test
+    void successfulFlushClearsLag() throws InterruptedException {
+        serviceCounterService.recordView(1L);
+        Thread.sleep(50);
+
+        serviceCounterService.flush();
+
+        assertThat(flushLagSeconds()).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsAgeOfOldestIncrement() throws InterruptedException {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        serviceCounterService.recordView(1L);
+        Thread.sleep(200);
+
+        serviceCounterService.flush();
+
+        assertThat(flushLagSeconds()).isGreaterThanOrEqualTo(0.2);
+        assertThat(meterRegistry.get("servenow.counters.pending").gauge().value()).isEqualTo(1);
+    }
+
+    private double flushLagSeconds() {
+        return meterRegistry.get("servenow.counters.flush.lag").gauge().value();
+    }
+}
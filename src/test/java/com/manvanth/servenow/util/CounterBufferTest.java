@@ -0,0 +1,173 @@
+package com.manvanth.servenow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    void drainReturnsPendingDeltasAndResets() {
+        CounterBuffer<Long> buffer = new CounterBuffer<>();
+        buffer.add(1L, 3);
+        buffer.add(1L, -1);
+        buffer.add(2L, 5);
+        buffer.add(3L, 0);
+
+        assertThat(buffer.drain()).containsOnly(Map.entry(1L, 2L), Map.entry(2L, 5L));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void idleKeysAreEvictedAfterThreeEmptyDrains() {
+        CounterBuffer<Long> buffer = new CounterBuffer<>();
+        buffer.add(1L, 1);
+        buffer.drain();
+
+        buffer.drain();
+        buffer.drain();
+        assertThat(buffer.size()).isEqualTo(1);
+
+        buffer.drain();
+        assertThat(buffer.size()).isZero();
+
+        buffer.add(1L, 4);
+        assertThat(buffer.drain()).containsOnly(Map.entry(1L, 4L));
+    }
+
+    @Test
+    void activityResetsIdleCount() {
+        CounterBuffer<Long> buffer = new CounterBuffer<>();
+        buffer.add(1L, 1);
+        buffer.drain();
+        buffer.drain();
+        buffer.drain();
+
+        buffer.add(1L, 1);
+        buffer.drain();
+        buffer.drain();
+        buffer.drain();
+
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void restorePutsDeltasBackForNextDrain() {
+        CounterBuffer<Long> buffer = new CounterBuffer<>();
+        buffer.add(1L, 2);
+        Map<Long, Long> failed = buffer.drain();
+        buffer.add(1L, 1);
+
+        buffer.restore(failed);
+
+        assertThat(buffer.drain()).containsOnly(Map.entry(1L, 3L));
+    }
+
+    @Test
+    void concurrentAddsAndDrainsLoseNothing() throws Exception {
+        CounterBuffer<Integer> buffer = new CounterBuffer<>();
+        int writers = 8;
+        int addsPerWriter = 200_000;
+        int keys = 16;
+        Map<Integer, Long> drained = new HashMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers + 1)) {
+            Future<?> drainer = executor.submit(() -> {
+                await(start);
+                while (writing.get()) {
+                    buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+                }
+            });
+            Future<?>[] adders = new Future<?>[writers];
+            for (int w = 0; w < writers; w++) {
+                adders[w] = executor.submit(() -> {
+                    await(start);
+                    for (int i = 0; i < addsPerWriter; i++) {
+                        buffer.add(i % keys, 1);
+                    }
+                });
+            }
+            start.countDown();
+            for (Future<?> adder : adders) {
+                adder.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+        }
+        buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+
+        long expectedPerKey = (long) writers * addsPerWriter / keys;
+        assertThat(drained).hasSize(keys).allSatisfy((key, total) -> assertThat(total).isEqualTo(expectedPerKey));
+    }
+
+    @Test
+    void burstsRacingWithEvictionLoseNothing() throws Exception {
+        CounterBuffer<Integer> buffer = new CounterBuffer<>();
+        int writers = 4;
+        int bursts = 20_000;
+        int keys = 64;
+        long[] expected = new long[keys];
+        Map<Integer, Long> drained = new HashMap<>();
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(writers + 1)) {
+            Future<?> drainer = executor.submit(() -> {
+                while (writing.get()) {
+                    buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+                }
+            });
+            Future<?>[] adders = new Future<?>[writers];
+            long[][] added = new long[writers][keys];
+            for (int w = 0; w < writers; w++) {
+                long[] counts = added[w];
+                adders[w] = executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int burst = 0; burst < bursts; burst++) {
+                        // Touch a few keys, leaving the rest idle long enough to be evicted
+                        int key = random.nextInt(keys);
+                        for (int i = 0; i < 10; i++) {
+                            buffer.add(key, 1);
+                            counts[key]++;
+                        }
+                        Thread.onSpinWait();
+                    }
+                });
+            }
+            for (Future<?> adder : adders) {
+                adder.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            drainer.get(30, TimeUnit.SECONDS);
+            for (long[] counts : added) {
+                for (int key = 0; key < keys; key++) {
+                    expected[key] += counts[key];
+                }
+            }
+        }
+        buffer.drain().forEach((key, delta) -> drained.merge(key, delta, Long::sum));
+
+        for (int key = 0; key < keys; key++) {
+            assertThat(drained.getOrDefault(key, 0L)).as("key %d", key).isEqualTo(expected[key]);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
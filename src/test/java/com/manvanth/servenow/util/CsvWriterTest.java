@@ -0,0 +1,73 @@
+package com.manvanth.servenow.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void plainValuesAreWrittenAsIsWithCrlf() throws IOException {
+        assertThat(csv("Deep cleaning", 42L, new BigDecimal("499.00"), LocalDateTime.of(2025, 1, 2, 3, 4)))
+                .isEqualTo("Deep cleaning,42,499.00,2025-01-02T03:04\r\n");
+    }
+
+    @Test
+    void nullIsEmptyField() throws IOException {
+        assertThat(csv("a", null, "c")).isEqualTo("a,,c\r\n");
+    }
+
+    @Test
+    void separatorsQuotesAndLineBreaksAreQuoted() throws IOException {
+        assertThat(csv("Pune, MH", "say \"hi\"", "line1\nline2", "cr\rlf"))
+                .isEqualTo("\"Pune, MH\",\"say \"\"hi\"\"\",\"line1\nline2\",\"cr\rlf\"\r\n");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=SUM(A1:A9)", "+1", "-1+2", "@cmd", "\t=1", "\r=1"})
+    void formulaTextIsPrefixedWithQuote(String text) throws IOException {
+        String field = csv(text).replace("\r\n", "");
+
+        assertThat(field).startsWith(text.contains("\r") ? "\"'" : "'");
+    }
+
+    @Test
+    void formulaPrefixIsAddedBeforeQuoting() throws IOException {
+        assertThat(csv("=HYPERLINK(\"http://x\",\"y\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"\r\n");
+    }
+
+    @Test
+    void numbersAreNotTreatedAsFormulas() throws IOException {
+        assertThat(csv(-5, new BigDecimal("-12.50"))).isEqualTo("-5,-12.50\r\n");
+    }
+
+    @Test
+    void textWithFormulaCharacterInsideIsUnchanged() throws IOException {
+        assertThat(csv("a=b", "x-y", "")).isEqualTo("a=b,x-y,\r\n");
+    }
+
+    @Test
+    void rowsAreAppended() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRow("id", "title");
+        writer.writeRow(1, "Plumbing");
+        writer.flush();
+
+        assertThat(out).hasToString("id,title\r\n1,Plumbing\r\n");
+    }
+
+    private static String csv(Object... values) throws IOException {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRow(values);
+        return out.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.manvanth.servenow.util;
+
+import com.manvanth.servenow.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void decodeReturnsEncodedValues() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+        String cursor = CursorCodec.encode(createdAt, 42L);
+
+        assertThat(CursorCodec.decode(cursor, 2)).containsExactly(createdAt.toString(), "42");
+        assertThat(LocalDateTime.parse(CursorCodec.decode(cursor, 2)[0])).isEqualTo(createdAt);
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        // Standard Base64 of "???|~~~" is "Pz8/fH5+fg=="
+        String cursor = CursorCodec.encode("???", "~~~");
+
+        assertThat(cursor).isEqualTo("Pz8_fH5-fg");
+        assertThat(CursorCodec.decode(cursor, 2)).containsExactly("???", "~~~");
+    }
+
+    @Test
+    void emptyValuesSurviveRoundTrip() {
+        assertThat(CursorCodec.decode(CursorCodec.encode("", 7), 2)).containsExactly("", "7");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "a", "%%%", "MTIz=x"})
+    void malformedCursorIsRejected(String cursor) {
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 2))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"42", "1|2|3", "2025-03-14T09:26:53|42|extra"})
+    void cursorWithWrongNumberOfValuesIsRejected(String joined) {
+        String tampered = urlEncode(joined);
+
+        assertThatThrownBy(() -> CursorCodec.decode(tampered, 2))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void parseConvertsDecodedValues() {
+        String[] key = CursorCodec.decode(CursorCodec.encode(LocalDateTime.of(2025, 1, 2, 3, 4, 5), 42L), 2);
+
+        LocalDateTime createdAt = CursorCodec.parse(key[0], LocalDateTime::parse);
+        Long id = CursorCodec.parse(key[1], Long::valueOf);
+
+        assertThat(createdAt).isEqualTo(LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+        assertThat(id).isEqualTo(42L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc", "42.0", "9223372036854775808", " 42"})
+    void parseRejectsTamperedId(String value) {
+        assertThatThrownBy(() -> CursorCodec.parse(value, Long::valueOf))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2025-13-01T00:00", "2025-01-02", "null"})
+    void parseRejectsTamperedTimestamp(String value) {
+        assertThatThrownBy(() -> CursorCodec.parse(value, LocalDateTime::parse))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void tamperedCursorFailsWhenParsed() {
+        String tampered = urlEncode("2025-01-02T03:04:05|42 OR 1=1");
+        String[] key = CursorCodec.decode(tampered, 2);
+
+        assertThatThrownBy(() -> CursorCodec.parse(key[1], Long::valueOf))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "-5, 1", "1, 1", "20, 20", "100, 100", "101, 100", "2147483647, 100"})
+    void limitClampsRequestedSize(int requested, int expected) {
+        assertThat(CursorCodec.limit(requested).getPageSize()).isEqualTo(expected);
+        assertThat(CursorCodec.limit(requested).getPageNumber()).isZero();
+    }
+
+    private static String urlEncode(String joined) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,122 @@
+package com.manvanth.servenow.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    /**
+     * Three standard errors for 2^11 registers (1.04 / sqrt(2048) is about 2.3%)
+     */
+    private static final double TOLERANCE = 0.07;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.estimate()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100, 1_000, 5_000, 10_000, 100_000, 1_000_000})
+    void estimateIsWithinThreeStandardErrors(int cardinality) {
+        HyperLogLog sketch = sketchOf(0, cardinality);
+
+        assertThat(sketch.isEmpty()).isFalse();
+        assertThat((double) sketch.estimate())
+                .isCloseTo(cardinality, within(Math.max(1, cardinality * TOLERANCE)));
+    }
+
+    @Test
+    void repeatedValuesAreCountedOnce() {
+        HyperLogLog once = sketchOf(0, 1_000);
+        HyperLogLog repeated = sketchOf(0, 1_000);
+        for (int i = 0; i < 1_000; i++) {
+            repeated.offer("user-" + i);
+        }
+
+        assertThat(repeated).isEqualTo(once);
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog merged = sketchOf(0, 30_000);
+        merged.merge(sketchOf(20_000, 50_000));
+
+        assertThat(merged).isEqualTo(sketchOf(0, 50_000));
+        assertThat((double) merged.estimate()).isCloseTo(50_000, within(50_000 * TOLERANCE));
+    }
+
+    @Test
+    void mergeIsIdempotentAndCommutative() {
+        HyperLogLog a = sketchOf(0, 2_000);
+        HyperLogLog b = sketchOf(1_000, 4_000);
+
+        HyperLogLog ab = sketchOf(0, 2_000);
+        ab.merge(b);
+        HyperLogLog ba = sketchOf(1_000, 4_000);
+        ba.merge(a);
+        assertThat(ab).isEqualTo(ba);
+
+        HyperLogLog twice = sketchOf(0, 2_000);
+        twice.merge(b);
+        twice.merge(b);
+        assertThat(twice).isEqualTo(ab);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 25_000);
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(bytes).hasSize(HyperLogLog.SIZE_BYTES);
+        assertThat(restored).isEqualTo(sketch);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    void bytesAreCopiedInAndOut() {
+        HyperLogLog sketch = sketchOf(0, 100);
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        bytes[0] = (byte) 0xFF;
+        sketch.toBytes()[1] = (byte) 0xFF;
+
+        assertThat(restored).isEqualTo(sketch);
+    }
+
+    @Test
+    void highestRankInLastRegisterIsPackedIntoFinalByte() {
+        HyperLogLog sketch = new HyperLogLog();
+        // Top 11 bits select register 2047, all remaining bits zero gives the capped rank 54
+        sketch.offerHash(0xFFE0000000000000L);
+
+        byte[] bytes = sketch.toBytes();
+        assertThat(bytes[HyperLogLog.SIZE_BYTES - 1]).isEqualTo((byte) (54 << 2));
+        assertThat(HyperLogLog.fromBytes(bytes)).isEqualTo(sketch);
+    }
+
+    @Test
+    void fromBytesRejectsWrongLength() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[HyperLogLog.SIZE_BYTES - 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(int fromInclusive, int toExclusive) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = fromInclusive; i < toExclusive; i++) {
+            sketch.offer("user-" + i);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,166 @@
+package com.manvanth.servenow.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrafficLogTest {
+
+    private static final long START = 1_750_000_000_000L;
+
+    @Test
+    void entriesRoundTrip() throws IOException {
+        List<TrafficLog.Entry> entries = List.of(
+                entry(START + 5, "GET", "/api/v1/services/{serviceId}", Map.of("serviceId", "42"), Map.of(), "ANONYMOUS"),
+                entry(START + 7, "GET", "/api/v1/search", Map.of(), params("q", "plumber", "city", "Pune"), "CUSTOMER"),
+                // Clock stepped back between requests
+                entry(START + 3, "POST", "/api/v1/bookings", Map.of(), Map.of(), "CUSTOMER"));
+
+        List<TrafficLog.Entry> read = readAll(write(entries));
+
+        assertThat(read).containsExactlyElementsOf(entries);
+        assertThat(read.get(0).path()).isEqualTo("/api/v1/services/42");
+    }
+
+    @Test
+    void paramOrderIsPreserved() throws IOException {
+        Map<String, String> params = params("size", "20", "page", "3", "sort", "price");
+
+        TrafficLog.Entry read = readAll(write(List.of(entry(START, "GET", "/api/v1/services", Map.of(), params, "")))).get(0);
+
+        assertThat(read.params().keySet()).containsExactly("size", "page", "sort");
+    }
+
+    @Test
+    void repeatedStringsAreWrittenOnce() throws IOException {
+        List<TrafficLog.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            entries.add(entry(START + i, "GET", "/api/v1/services/{serviceId}", Map.of("serviceId", "42"), Map.of(),
+                    "CUSTOMER"));
+        }
+
+        byte[] bytes = write(entries);
+
+        // After the first entry every field is a one-byte varint except status and duration (two bytes each)
+        assertThat(bytes.length - write(entries.subList(0, 1)).length).isEqualTo(999 * 12);
+        assertThat(readAll(bytes)).containsExactlyElementsOf(entries);
+    }
+
+    @Test
+    void truncatedLastEntryEndsTheLog() throws IOException {
+        List<TrafficLog.Entry> entries = List.of(
+                entry(START, "GET", "/api/v1/categories", Map.of(), Map.of(), "ANONYMOUS"),
+                entry(START + 1, "GET", "/api/v1/services/{serviceId}", Map.of("serviceId", "7"), Map.of(), "PROVIDER"));
+        byte[] complete = write(entries);
+        int firstEntryEnd = write(entries.subList(0, 1)).length;
+
+        for (int length = firstEntryEnd + 1; length < complete.length; length++) {
+            assertThat(readAll(Arrays.copyOf(complete, length))).as("cut at %d", length)
+                    .containsExactly(entries.get(0));
+        }
+        assertThat(readAll(Arrays.copyOf(complete, firstEntryEnd))).containsExactly(entries.get(0));
+    }
+
+    @Test
+    void stringsBeyondDictionaryCapacityAreWrittenInline() throws IOException {
+        // Each entry adds one new term; the dictionary holds 65536 strings including the fixed ones
+        int terms = (1 << 16) + 500;
+        List<TrafficLog.Entry> entries = new ArrayList<>(terms + 3);
+        for (int i = 0; i < terms; i++) {
+            entries.add(entry(START + i, "GET", "/api/v1/search", Map.of(), Map.of("q", "term-" + i), "CUSTOMER"));
+        }
+        // Known strings keep their ids after the dictionary is full, and a late new string round-trips inline twice
+        entries.add(entry(START + terms, "GET", "/api/v1/search", Map.of(), Map.of("q", "term-0"), "CUSTOMER"));
+        entries.add(entry(START + terms, "GET", "/api/v1/late", Map.of(), Map.of("q", "late"), "CUSTOMER"));
+        entries.add(entry(START + terms, "GET", "/api/v1/late", Map.of(), Map.of("q", "late"), "CUSTOMER"));
+
+        assertThat(readAll(write(entries))).containsExactlyElementsOf(entries);
+    }
+
+    @Test
+    void longStringsAreCutTo1024Bytes() throws IOException {
+        String longQuery = "x".repeat(5_000);
+        TrafficLog.Entry original = entry(START, "GET", "/api/v1/search", Map.of(), Map.of("q", longQuery), "");
+
+        List<TrafficLog.Entry> read = readAll(write(List.of(original, original)));
+
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0).params().get("q")).isEqualTo("x".repeat(1024));
+        // The repeat is a dictionary reference to the cut value
+        assertThat(read.get(1).params().get("q")).isEqualTo("x".repeat(1024));
+    }
+
+    @Test
+    void longStringIsNotCutInsideMultiByteCharacter() throws IOException {
+        // Two ASCII bytes then three-byte characters, so byte 1024 falls inside a character
+        String longQuery = "ab" + "\u20B9".repeat(500);
+
+        String read = readAll(write(List.of(entry(START, "GET", "/api/v1/search", Map.of(), Map.of("q", longQuery), ""))))
+                .get(0).params().get("q");
+
+        assertThat(read).isEqualTo("ab" + "\u20B9".repeat(340)).doesNotContain("\uFFFD");
+        assertThat(read.getBytes(StandardCharsets.UTF_8)).hasSizeLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    void emptyLogHasStartTimeAndNoEntries() throws IOException {
+        try (TrafficLog.Reader reader = new TrafficLog.Reader(new ByteArrayInputStream(write(List.of())))) {
+            assertThat(reader.startMillis()).isEqualTo(START);
+            assertThat(reader.read()).isNull();
+        }
+    }
+
+    @Test
+    void otherFilesAreRejected() {
+        byte[] notALog = "SNTX-not-a-traffic-log".getBytes(StandardCharsets.US_ASCII);
+
+        assertThatThrownBy(() -> new TrafficLog.Reader(new ByteArrayInputStream(notALog)))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Not a traffic log");
+    }
+
+    private static byte[] write(List<TrafficLog.Entry> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (TrafficLog.Writer writer = new TrafficLog.Writer(bytes, START)) {
+            for (TrafficLog.Entry entry : entries) {
+                writer.write(entry);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<TrafficLog.Entry> readAll(byte[] bytes) throws IOException {
+        List<TrafficLog.Entry> entries = new ArrayList<>();
+        try (TrafficLog.Reader reader = new TrafficLog.Reader(new ByteArrayInputStream(bytes))) {
+            TrafficLog.Entry entry;
+            while ((entry = reader.read()) != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private static TrafficLog.Entry entry(long timestamp, String method, String template,
+                                          Map<String, String> pathVariables, Map<String, String> params, String role) {
+        return new TrafficLog.Entry(timestamp, method, template, pathVariables, params, role, 200, 1_250);
+    }
+
+    private static Map<String, String> params(String... keysAndValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            params.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return params;
+    }
+}